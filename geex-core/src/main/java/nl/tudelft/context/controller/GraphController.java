@@ -1,24 +1,35 @@
 package nl.tudelft.context.controller;
 
-import javafx.beans.property.ObjectProperty;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+import nl.tudelft.context.controller.graphlist.ActiveGraphService;
 import nl.tudelft.context.controller.graphlist.GraphFilterController;
+import nl.tudelft.context.controller.graphlist.ZoomPyramidService;
 import nl.tudelft.context.controller.locator.LocatorController;
+import nl.tudelft.context.drawable.graph.AbstractDrawableNode;
 import nl.tudelft.context.drawable.graph.DrawableGraph;
+import nl.tudelft.context.drawable.graph.DrawablePyramid;
 import nl.tudelft.context.logger.Log;
 import nl.tudelft.context.logger.message.Message;
 import nl.tudelft.context.model.annotation.CodingSequenceMap;
 import nl.tudelft.context.model.annotation.ResistanceMap;
+import nl.tudelft.context.model.graph.FlatGraph;
 import nl.tudelft.context.model.graph.GraphMap;
+import nl.tudelft.context.model.graph.SourceSet;
+import nl.tudelft.context.service.LoadScheduler;
 
 import java.net.URL;
+import java.util.HashSet;
+import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author René Vennik
@@ -74,6 +85,32 @@ public class GraphController extends AbstractGraphController {
      */
     GraphFilterController graphFilterController;
 
+    /**
+     * Graph flattened for the previous selection, handed over when the previous controller stopped using it,
+     * which is updated instead of flattening again.
+     */
+    private final CompletableFuture<FlatGraph> previousGraph;
+
+    /**
+     * Graph flattened for the sources, set in the background.
+     */
+    private volatile FlatGraph baseGraph;
+
+    /**
+     * Scheduler which annotates, flattens and filters the graph in the background.
+     */
+    private final LoadScheduler scheduler = new LoadScheduler();
+
+    /**
+     * Service which builds the zoom levels of the active graph, on the executor of the scheduler.
+     */
+    private final ZoomPyramidService zoomPyramidService = new ZoomPyramidService(scheduler.getExecutor());
+
+    /**
+     * Zoom level which is shown, 0 is the active graph.
+     */
+    private int zoomLevel;
+
     /**
      * Init a controller at graph.fxml.
      *
@@ -89,8 +126,35 @@ public class GraphController extends AbstractGraphController {
                            final ReadOnlyObjectProperty<CodingSequenceMap> codingSequenceMapIn,
                            final ReadOnlyObjectProperty<ResistanceMap> resistanceMapIn) {
 
+        this(mainController, sources, graphMapIn, codingSequenceMapIn, resistanceMapIn, null);
+
+    }
+
+    /**
+     * Init a controller at graph.fxml, which updates the graph of a previous selection.
+     *
+     * @param mainController      MainController for the application
+     * @param sources             Sources to display
+     * @param graphMapIn          The graphMap from the workspace, might not be loaded.
+     * @param codingSequenceMapIn The CodingSequenceMap from the workspace, might not be loaded.
+     * @param resistanceMapIn     The ResistanceMap from the workspace, might not be loaded.
+     * @param previousGraph       Graph of the previous selection, which is taken over once it is handed over,
+     *                            null to flatten again
+     */
+    public GraphController(final MainController mainController,
+                           final Set<String> sources,
+                           final ReadOnlyObjectProperty<GraphMap> graphMapIn,
+                           final ReadOnlyObjectProperty<CodingSequenceMap> codingSequenceMapIn,
+                           final ReadOnlyObjectProperty<ResistanceMap> resistanceMapIn,
+                           final CompletableFuture<FlatGraph> previousGraph) {
+
         super(mainController);
         this.sources = sources;
+        if (previousGraph == null) {
+            this.previousGraph = CompletableFuture.completedFuture(null);
+        } else {
+            this.previousGraph = previousGraph;
+        }
 
         this.graphMapIn = graphMapIn;
         this.codingSequenceMapIn = codingSequenceMapIn;
@@ -104,7 +168,7 @@ public class GraphController extends AbstractGraphController {
 
         super.initialize(location, resources);
 
-        graphFilterController = new GraphFilterController(graphs);
+        graphFilterController = new GraphFilterController(graphs, scheduler.getExecutor());
         LocatorController locatorController = new LocatorController(locator, nodeMapProperty, this);
         positionProperty.addListener((observable, oldValue, newValue) -> locatorController.updatePosition(newValue));
 
@@ -114,28 +178,57 @@ public class GraphController extends AbstractGraphController {
     }
 
     /**
-     * Bind the properties from the workspace to handles.
+     * Schedule the stages from the properties of the workspace to the filtered graph.
+     * <p>
+     * The graph is annotated as soon as the graph and an annotation map are loaded, then flattened and
+     * filtered by the default filters, all in the background. The graph of a previous selection is only
+     * updated once the previous controller has handed it over. The graph is positioned in the background
+     * as well, only showing the positioned graph is done on the JavaFX thread.
+     * </p>
+     * <p>
+     * The progress indicator shows the part of the files read while the workspace is loading, then the part of
+     * the stages done and the part of the filters applied while filtering.
+     * </p>
      */
     private void initProperties() {
 
-        ObjectProperty<GraphMap> graphMapProperty = new SimpleObjectProperty<>();
-        ObjectProperty<CodingSequenceMap> codingSequenceMapProperty = new SimpleObjectProperty<>();
-        ObjectProperty<ResistanceMap> resistanceMapProperty = new SimpleObjectProperty<>();
-
-        graphMapProperty.addListener(event -> {
-            Log.info(Message.SUCCESS_LOAD_CODING_SEQUENCE);
-            loadGraph(graphMapProperty.get(), codingSequenceMapProperty.get(), resistanceMapProperty.get());
-        });
-        codingSequenceMapProperty.addListener(event ->
-                loadGraph(graphMapProperty.get(), codingSequenceMapProperty.get(), resistanceMapProperty.get()));
-        resistanceMapProperty.addListener(event ->
-                loadGraph(graphMapProperty.get(), codingSequenceMapProperty.get(), resistanceMapProperty.get()));
-
-        graphMapProperty.bind(graphMapIn);
-        codingSequenceMapProperty.bind(codingSequenceMapIn);
-        resistanceMapProperty.bind(resistanceMapIn);
-
-        progressIndicator.visibleProperty().bind(graphMapProperty.isNull());
+        CompletableFuture<GraphMap> graphMap = LoadScheduler.valueOf(graphMapIn);
+        graphMap.thenRun(() -> Log.info(Message.SUCCESS_LOAD_GRAPH));
+
+        CompletableFuture<GraphMap> withCodingSequences = scheduler.join("Coding sequences",
+                graphMap, LoadScheduler.valueOf(codingSequenceMapIn), (map, codingSequenceMap) -> {
+                    map.setCodingSequence(codingSequenceMap);
+                    return map;
+                });
+        CompletableFuture<GraphMap> annotated = scheduler.join("Resistances",
+                withCodingSequences, LoadScheduler.valueOf(resistanceMapIn), (map, resistanceMap) -> {
+                    map.setResistance(resistanceMap);
+                    return map;
+                });
+        CompletableFuture<FlatGraph> flat = scheduler.join("Flatten", annotated, previousGraph, this::flat);
+
+        scheduler.then("Filters", flat, graphFilterController::preload)
+                .whenCompleteAsync((activeGraph, throwable) -> {
+                    if (throwable == null) {
+                        loadGraph();
+                    } else if (!LoadScheduler.isCancellation(throwable)) {
+                        Log.warning(Message.FAIL_LOAD_GRAPH);
+                        Log.debug(throwable.toString());
+                    }
+                }, Platform::runLater);
+
+        ActiveGraphService activeGraphService = graphFilterController.getActiveGraphService();
+        ReadOnlyDoubleProperty loadProgress = mainController.getWorkspace().getScheduler().progressProperty();
+        progressIndicator.visibleProperty().bind(loadProgress.lessThan(1)
+                .or(scheduler.progressProperty().lessThan(1))
+                .or(activeGraphService.runningProperty()));
+        progressIndicator.progressProperty().bind(Bindings
+                .when(activeGraphService.runningProperty())
+                .then(activeGraphService.progressProperty())
+                .otherwise(Bindings
+                        .when(loadProgress.lessThan(1))
+                        .then(loadProgress)
+                        .otherwise(scheduler.progressProperty())));
 
     }
 
@@ -158,27 +251,121 @@ public class GraphController extends AbstractGraphController {
         resetView.setOnAction(event -> resetView());
         resetView.disableProperty().bind(activeProperty.not());
 
+        MenuItem zoomIn = menuController.getZoomIn();
+        zoomIn.setOnAction(event -> zoom(-1));
+        zoomIn.disableProperty().bind(activeProperty.not());
+
+        MenuItem zoomOut = menuController.getZoomOut();
+        zoomOut.setOnAction(event -> zoom(1));
+        zoomOut.disableProperty().bind(activeProperty.not());
+
+    }
+
+    /**
+     * Show the graph with the default filters, which are already applied in the background.
+     * <p>
+     * Every time the active filters change, the graph is shown once it is filtered and positioned.
+     * </p>
+     */
+    private void loadGraph() {
+        graphFilterController.getActiveGraphService().valueProperty().addListener(
+                (observable, oldValue, newValue) -> {
+                    if (newValue != null) {
+                        showActiveGraph(newValue);
+                    }
+                });
+
+        graphFilterController.reset();
+    }
+
+    /**
+     * Show the positioned active graph and build its zoom levels in the background.
+     *
+     * @param activeGraph The positioned graph with the active filters
+     */
+    private void showActiveGraph(final DrawableGraph activeGraph) {
+
+        zoomLevel = 0;
+        showGraph(activeGraph);
+        zoomPyramidService.build(activeGraph);
+
+    }
+
+    /**
+     * Cancel loading, filtering and positioning the graph, when the graph is not shown anymore.
+     * <p>
+     * Work which is already running finishes.
+     * </p>
+     *
+     * @return Future which completes when the work which was running has finished
+     */
+    public CompletableFuture<Void> cancel() {
+
+        graphFilterController.cancel();
+        zoomPyramidService.cancel();
+
+        return scheduler.cancel();
+
+    }
+
+    /**
+     * Cancel this controller and hand over its graph, once none of its work uses the graph anymore.
+     *
+     * @return Future with the graph of the sources, null if it was not flattened
+     */
+    public CompletableFuture<FlatGraph> handOver() {
+        return cancel().thenApply(stopped -> baseGraph);
+    }
+
+    /**
+     * Show a zoom level above or below the current one, at the node in the center of the view.
+     *
+     * @param levels Amount of levels to zoom out, negative to zoom in
+     */
+    private void zoom(final int levels) {
+
+        final DrawablePyramid pyramid = zoomPyramidService.getValue();
+        final int level = zoomLevel + levels;
+        if (pyramid == null || level < 0 || level >= pyramid.size()) {
+            return;
+        }
+
+        final List<Integer> columns = positionProperty.get();
+        final List<AbstractDrawableNode> center = columns == null
+                ? null
+                : nodeMapProperty.get().get(columns.get(columns.size() / 2));
+
+        showGraph(pyramid.getLevel(level));
+        if (center != null && !center.isEmpty()) {
+            pyramid.find(zoomLevel, center.get(0).getNode(), level).ifPresent(node ->
+                    Platform.runLater(() -> setPosition(node.currentColumn())));
+        }
+        zoomLevel = level;
+
     }
 
     /**
-     * Load graph from source.
+     * Flatten the graph of the sources, by updating the graph of the previous selection if there is one.
      *
-     * @param graphMap          The GraphMap which is loaded.
-     * @param codingSequenceMap The CodingSequenceMap which is loaded.
-     * @param resistanceMap     The ResistanceMap which is loaded.
-     */
-    private void loadGraph(final GraphMap graphMap, final CodingSequenceMap codingSequenceMap,
-                           final ResistanceMap resistanceMap) {
-        if (graphMap != null && codingSequenceMap != null && resistanceMap != null) {
-            graphMap.setCodingSequence(codingSequenceMap);
-            graphMap.setResistance(resistanceMap);
-            graphFilterController.setBaseGraph(graphMap.flat(sources));
-            graphFilterController.reset();
-
-            graphFilterController.getActiveGraphProperty().addListener((observable, oldValue, newValue) ->
-                    showGraph(new DrawableGraph(newValue)));
-            showGraph(new DrawableGraph(graphFilterController.getActiveGraph()));
+     * @param graphMap The GraphMap which is loaded.
+     * @param previous Graph of the previous selection, which is not used by the previous controller anymore
+     * @return Graph of the sources
+     */
+    private FlatGraph flat(final GraphMap graphMap, final FlatGraph previous) {
+
+        if (previous == null) {
+            baseGraph = graphMap.flat(sources);
+        } else {
+            Set<String> added = new HashSet<>(sources);
+            added.removeAll(previous.getSelection());
+            Set<String> removed = new HashSet<>(previous.getSelection());
+            removed.removeAll(sources);
+
+            baseGraph = graphMap.flat(previous, added, removed);
         }
+
+        return baseGraph;
+
     }
 
     /**
@@ -187,7 +374,7 @@ public class GraphController extends AbstractGraphController {
      * @param sources New selected sources.
      */
     public void updateSelectedSources(final Set<String> sources) {
-        selectedSources.setValue(sources);
+        selectedSources.setValue(SourceSet.of(sources));
     }
 
     @Override
@@ -29,7 +29,9 @@ public final class MenuController {
             toggleOverlay,
             toggleSelect,
             selectWorkspace,
-            resetView;
+            resetView,
+            zoomIn,
+            zoomOut;
 
     /**
      * The menu's.
@@ -91,13 +93,21 @@ public final class MenuController {
         resetView = createDisabledMenuItem("Reset the view",
                 new KeyCodeCombination(KeyCode.R, KeyCombination.SHORTCUT_DOWN));
 
+        zoomIn = createDisabledMenuItem("Zoom in",
+                new KeyCodeCombination(KeyCode.EQUALS, KeyCombination.SHORTCUT_DOWN));
+
+        zoomOut = createDisabledMenuItem("Zoom out",
+                new KeyCodeCombination(KeyCode.MINUS, KeyCombination.SHORTCUT_DOWN));
+
         menuBar.getMenus().add(createMenu("_Navigate",
                 createMenuItem("Previous view",
                         new KeyCodeCombination(KeyCode.ESCAPE),
                         event -> mainController.previousView()),
                 toggleSelect,
                 loadGenomeGraph,
-                resetView));
+                resetView,
+                zoomIn,
+                zoomOut));
 
     }
 
@@ -217,4 +227,22 @@ public final class MenuController {
         return resetView;
     }
 
+    /**
+     * Get the menu item that shows the zoom level below.
+     *
+     * @return The menu item that zooms in.
+     */
+    public MenuItem getZoomIn() {
+        return zoomIn;
+    }
+
+    /**
+     * Get the menu item that shows the zoom level above.
+     *
+     * @return The menu item that zooms out.
+     */
+    public MenuItem getZoomOut() {
+        return zoomOut;
+    }
+
 }
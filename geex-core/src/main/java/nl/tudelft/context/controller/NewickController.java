@@ -8,11 +8,13 @@ import nl.tudelft.context.drawable.DrawableEdge;
 import nl.tudelft.context.drawable.DrawableNewick;
 import nl.tudelft.context.logger.Log;
 import nl.tudelft.context.logger.message.Message;
+import nl.tudelft.context.model.graph.FlatGraph;
 import nl.tudelft.context.model.newick.Newick;
 import nl.tudelft.context.model.newick.selection.None;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author René Vennik
@@ -81,11 +83,16 @@ public final class NewickController extends AbstractNewickController {
         Set<String> newSelection = newick.getRoot().getSources();
         if (!newSelection.isEmpty()) {
             if (!newSelection.equals(selection)) {
+                CompletableFuture<FlatGraph> previousGraph = null;
+                if (graphController != null) {
+                    previousGraph = graphController.handOver();
+                }
                 graphController = new GraphController(mainController,
                         newSelection,
                         mainController.getWorkspace().getGraph(),
                         mainController.getWorkspace().getCodingSequence(),
-                        mainController.getWorkspace().getResistance());
+                        mainController.getWorkspace().getResistance(),
+                        previousGraph);
                 mainController.setView(this, graphController);
             } else {
                 mainController.toView(graphController);
@@ -0,0 +1,98 @@
+package nl.tudelft.context.controller.graphlist;
+
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+import nl.tudelft.context.drawable.graph.DrawableGraph;
+import nl.tudelft.context.model.graph.StackGraph;
+import nl.tudelft.context.service.LoadScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Applies the active filters and positions the filtered graph in the background.
+ * <p>
+ * Showing other filters cancels the previous computation, which stops before the next filter.
+ * The progress is the part of the filters applied, positioning the graph is the last step.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ActiveGraphService extends Service<DrawableGraph> {
+
+    /**
+     * Pipeline which applies the filters.
+     */
+    private final FilterPipeline pipeline;
+
+    /**
+     * Filters to apply.
+     */
+    private List<GraphFilter> filters = new ArrayList<>();
+
+    /**
+     * Create a service which applies filters with a pipeline, on the executor shared by the load schedulers.
+     *
+     * @param pipeline Pipeline which applies the filters
+     */
+    public ActiveGraphService(final FilterPipeline pipeline) {
+        this(pipeline, LoadScheduler.shared());
+    }
+
+    /**
+     * Create a service which applies filters with a pipeline.
+     *
+     * @param pipeline Pipeline which applies the filters
+     * @param executor Executor to apply the filters on
+     */
+    public ActiveGraphService(final FilterPipeline pipeline, final Executor executor) {
+
+        this.pipeline = pipeline;
+        setExecutor(executor);
+
+    }
+
+    /**
+     * Apply filters and position the graph, a computation for previous filters is cancelled.
+     *
+     * @param filters Filters to apply in order
+     */
+    public void show(final List<GraphFilter> filters) {
+
+        this.filters = new ArrayList<>(filters);
+        restart();
+
+    }
+
+    @Override
+    protected Task<DrawableGraph> createTask() {
+
+        final List<GraphFilter> active = filters;
+        return new Task<DrawableGraph>() {
+            @Override
+            protected DrawableGraph call() {
+
+                final int steps = active.size() + 1;
+                StackGraph graph = pipeline.getBaseGraph();
+                for (int step = 1; step <= active.size() && !isCancelled(); step++) {
+                    graph = pipeline.apply(active.subList(0, step));
+                    updateProgress(step, steps);
+                }
+
+                if (graph == null || isCancelled()) {
+                    return null;
+                }
+
+                DrawableGraph drawableGraph = new DrawableGraph(graph);
+                updateProgress(steps, steps);
+                return drawableGraph;
+
+            }
+        };
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package nl.tudelft.context.controller.graphlist;
+
+import nl.tudelft.context.logger.Log;
+import nl.tudelft.context.model.graph.StackGraph;
+import nl.tudelft.context.model.graph.filter.StackGraphFilter;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies a chain of filters to a base graph and remembers the graph after every step.
+ * <p>
+ * The graphs are cached by the filters applied so far, so when a filter is toggled, moved or
+ * appended only the steps after the longest cached prefix are computed again. The pipeline is used
+ * from background threads, one at a time.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class FilterPipeline {
+
+    /**
+     * Maximum amount of intermediate graphs to keep.
+     */
+    private static final int MAX_CACHED = 16;
+
+    /**
+     * Graph after a prefix of filters, the least recently used graph is removed first.
+     */
+    private final Map<List<GraphFilter>, StackGraph> cache = new LinkedHashMap<List<GraphFilter>, StackGraph>(
+            MAX_CACHED, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<List<GraphFilter>, StackGraph> eldest) {
+            return size() > MAX_CACHED;
+        }
+
+    };
+
+    /**
+     * Graph to apply the filters to.
+     */
+    private StackGraph baseGraph;
+
+    /**
+     * Set the graph to apply the filters to, which clears the cached graphs.
+     *
+     * @param baseGraph New base StackGraph
+     */
+    public synchronized void setBaseGraph(final StackGraph baseGraph) {
+
+        this.baseGraph = baseGraph;
+        cache.clear();
+
+    }
+
+    /**
+     * Get the graph to apply the filters to.
+     *
+     * @return The base graph
+     */
+    public synchronized StackGraph getBaseGraph() {
+        return baseGraph;
+    }
+
+    /**
+     * Apply filters to the base graph, starting at the graph of the longest cached prefix.
+     *
+     * @param filters Filters to apply in order
+     * @return The filtered graph
+     */
+    public synchronized StackGraph apply(final List<GraphFilter> filters) {
+
+        if (baseGraph == null) {
+            return null;
+        }
+
+        int step = filters.size();
+        StackGraph graph = null;
+        while (step > 0 && graph == null) {
+            graph = cache.get(filters.subList(0, step));
+            if (graph == null) {
+                step--;
+            }
+        }
+        if (graph == null) {
+            graph = baseGraph;
+        }
+
+        for (; step < filters.size(); step++) {
+            StackGraphFilter filter;
+            try {
+                filter = create(filters.get(step), graph);
+            } catch (ReflectiveOperationException e) {
+                // Something went VERY wrong.
+                Log.debug(e.getMessage());
+                Log.debug(e);
+                // Bailing!
+                return graph;
+            }
+
+            graph = filter.getFilterGraph();
+            cache.put(new ArrayList<>(filters.subList(0, step + 1)), graph);
+        }
+
+        return graph;
+
+    }
+
+    /**
+     * Create a filter on a graph.
+     *
+     * @param graphFilter Filter to create
+     * @param graph       Graph to filter
+     * @return The filter
+     * @throws ReflectiveOperationException If the filter could not be created
+     */
+    private static StackGraphFilter create(final GraphFilter graphFilter, final StackGraph graph)
+            throws ReflectiveOperationException {
+
+        Class<? extends StackGraphFilter> clazz = graphFilter.getGraph();
+        Constructor<? extends StackGraphFilter> constructor = clazz.getDeclaredConstructor(StackGraph.class);
+
+        return constructor.newInstance(graph);
+
+    }
+
+}
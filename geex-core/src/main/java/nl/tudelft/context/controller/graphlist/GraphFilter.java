@@ -7,6 +7,7 @@ import nl.tudelft.context.model.graph.filter.StraightFilter;
 import nl.tudelft.context.model.graph.filter.InsertDeleteFilter;
 import nl.tudelft.context.model.graph.filter.SinglePointFilter;
 import nl.tudelft.context.model.graph.filter.StackGraphFilter;
+import nl.tudelft.context.model.graph.filter.SuperBubbleFilter;
 import nl.tudelft.context.model.graph.filter.UnknownFilter;
 
 /**
@@ -29,6 +30,10 @@ public enum GraphFilter {
      * Class for collapsing straight lines.
      */
     COLLAPSE(StraightFilter.class, "Straight sequences"),
+    /**
+     * Class for collapsing nested superbubbles.
+     */
+    SUPER_BUBBLE(SuperBubbleFilter.class, "Superbubbles"),
     /**
      * Class for hiding nodes with too many unknowns.
      */
@@ -14,12 +14,12 @@ import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
-import nl.tudelft.context.logger.Log;
 import nl.tudelft.context.model.graph.StackGraph;
-import nl.tudelft.context.model.graph.filter.StackGraphFilter;
+import nl.tudelft.context.service.LoadScheduler;
 
-import java.lang.reflect.Constructor;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -40,9 +40,14 @@ public class GraphFilterController implements InvalidationListener {
     ObjectProperty<StackGraph> activeGraph = new SimpleObjectProperty<>();
 
     /**
-     * Base of this StackGraph.
+     * Pipeline which applies the active filters to the base graph.
      */
-    private StackGraph baseGraph;
+    private final FilterPipeline pipeline = new FilterPipeline();
+
+    /**
+     * Service which applies the active filters and positions the graph in the background.
+     */
+    private final ActiveGraphService activeGraphService;
     /**
      * Pane containing the javafx labels.
      */
@@ -65,11 +70,27 @@ public class GraphFilterController implements InvalidationListener {
      * @param graphs FXML Pane to add graphs labels to.
      */
     public GraphFilterController(final Pane graphs) {
+        this(graphs, LoadScheduler.shared());
+    }
+
+    /**
+     * Create a graph list controller which applies the filters on an executor.
+     *
+     * @param graphs   FXML Pane to add graphs labels to.
+     * @param executor Executor to apply the filters on.
+     */
+    public GraphFilterController(final Pane graphs, final Executor executor) {
         graphList = FXCollections.observableArrayList();
+        activeGraphService = new ActiveGraphService(pipeline, executor);
 
 
         filterList = new VBox();
         graphList.addListener(onGraphListChange());
+        activeGraphService.valueProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null) {
+                activeGraph.set(newValue.getGraph());
+            }
+        });
         graphs.getChildren().addAll(
                 new ScrollPane(filterList),
                 createNewFilter(),
@@ -91,7 +112,7 @@ public class GraphFilterController implements InvalidationListener {
             }
             graphList.forEach(GraphFilterLabel::activate);
             filterList.getChildren().setAll(graphList);
-            activeGraph.set(createGraphFromFilter(graphList, baseGraph));
+            activeGraphService.show(activeFilters(graphList));
         };
     }
 
@@ -126,45 +147,57 @@ public class GraphFilterController implements InvalidationListener {
      * @param baseGraph New base StackGraph
      */
     public void setBaseGraph(final StackGraph baseGraph) {
-        this.baseGraph = baseGraph;
+        pipeline.setBaseGraph(baseGraph);
     }
 
     /**
-     * Use the filters in graphs, to create a new StackGraph.
+     * Set the base of this graph and apply the default filters, which can be done off the JavaFX thread.
+     * <p>
+     * The filtered graphs are kept by the pipeline, so a reset afterwards does not filter again.
+     * </p>
      *
-     * @param graphs    List of filters
-     * @param baseGraph Graph to use as base.
-     * @return A combined graph.
-     */
-    private StackGraph createGraphFromFilter(final ObservableList<GraphFilterLabel> graphs,
-                                             final StackGraph baseGraph) {
-        StackGraph newGraph = baseGraph;
-        for (GraphFilterLabel gli : graphs) {
-            if (!gli.isActive()) {
-                continue;
-            }
+     * @param baseGraph New base StackGraph
+     * @return The base graph with the default filters
+     */
+    public StackGraph preload(final StackGraph baseGraph) {
+        pipeline.setBaseGraph(baseGraph);
+        return pipeline.apply(Arrays.asList(DEFAULT_FILTERS));
+    }
 
-            StackGraphFilter filter;
-            try {
-                Class<? extends StackGraphFilter> clazz = gli.getFilter().getGraph();
-                Constructor<? extends StackGraphFilter> constructor = clazz.getDeclaredConstructor(StackGraph.class);
-                filter = constructor.newInstance(newGraph);
-            } catch (ReflectiveOperationException e) {
-                // Something went VERY wrong.
-                Log.debug(e.getMessage());
-                Log.debug(e);
-                // Bailing!
-                return newGraph;
-            }
+    /**
+     * Get the active filters in graphs, which the service applies to create a new StackGraph.
+     * <p>
+     * Graphs of earlier filter chains are reused by the pipeline.
+     * </p>
+     *
+     * @param graphs List of filters
+     * @return The active filters in order.
+     */
+    private List<GraphFilter> activeFilters(final ObservableList<GraphFilterLabel> graphs) {
+        return graphs.stream()
+                .filter(GraphFilterLabel::isActive)
+                .map(GraphFilterLabel::getFilter)
+                .collect(Collectors.toList());
+    }
 
-            newGraph = filter.getFilterGraph();
-        }
+    /**
+     * Get the service which applies the active filters, its value is the positioned active graph.
+     *
+     * @return The active graph service
+     */
+    public ActiveGraphService getActiveGraphService() {
+        return activeGraphService;
+    }
 
-        return newGraph;
+    /**
+     * Cancel applying the active filters.
+     */
+    public void cancel() {
+        activeGraphService.cancel();
     }
 
     /**
-     * Get the current active graph.
+     * Get the current active graph, which is set when the service has applied the active filters.
      *
      * @return The current active graph
      */
@@ -203,6 +236,6 @@ public class GraphFilterController implements InvalidationListener {
     public void invalidated(final Observable observable) {
         filterList.getChildren().setAll(graphList);
 
-        activeGraph.set(createGraphFromFilter(graphList, baseGraph));
+        activeGraphService.show(activeFilters(graphList));
     }
 }
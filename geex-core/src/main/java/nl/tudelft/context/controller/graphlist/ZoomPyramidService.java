@@ -0,0 +1,75 @@
+package nl.tudelft.context.controller.graphlist;
+
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+import nl.tudelft.context.drawable.graph.DrawableGraph;
+import nl.tudelft.context.drawable.graph.DrawablePyramid;
+import nl.tudelft.context.service.LoadScheduler;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Builds the zoom levels of the active graph in the background.
+ * <p>
+ * Building again cancels the previous build, which stops before its next filter pass or level.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ZoomPyramidService extends Service<DrawablePyramid> {
+
+    /**
+     * Positioned graph to build the zoom levels of.
+     */
+    private DrawableGraph graph;
+
+    /**
+     * Create a service which builds on the executor shared by the load schedulers.
+     */
+    public ZoomPyramidService() {
+        this(LoadScheduler.shared());
+    }
+
+    /**
+     * Create a service which builds on an executor.
+     *
+     * @param executor Executor to build on
+     */
+    public ZoomPyramidService(final Executor executor) {
+        setExecutor(executor);
+    }
+
+    /**
+     * Build the zoom levels of a positioned graph, a build for a previous graph is cancelled.
+     *
+     * @param graph Positioned graph to build the zoom levels of, used as the lowest level
+     */
+    public void build(final DrawableGraph graph) {
+
+        this.graph = graph;
+        restart();
+
+    }
+
+    @Override
+    protected Task<DrawablePyramid> createTask() {
+
+        final DrawableGraph drawableGraph = graph;
+        return new Task<DrawablePyramid>() {
+            @Override
+            protected DrawablePyramid call() {
+
+                final DrawablePyramid pyramid = new DrawablePyramid(drawableGraph, this::isCancelled);
+                if (isCancelled()) {
+                    return null;
+                }
+                return pyramid;
+
+            }
+        };
+
+    }
+
+}
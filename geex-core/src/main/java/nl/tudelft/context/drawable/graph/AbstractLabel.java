@@ -4,7 +4,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import nl.tudelft.context.model.graph.DefaultNode;
-import org.apache.commons.collections.CollectionUtils;
+import nl.tudelft.context.model.graph.SourceSet;
 
 import java.util.Set;
 
@@ -43,7 +43,7 @@ public abstract class AbstractLabel extends VBox {
 
         this.sources = sources;
 
-        if (CollectionUtils.containsAny(sources, node.getSources())) {
+        if (SourceSet.of(sources).containsAny(SourceSet.of(node.getSources()))) {
             getStyleClass().add("selected-label");
         } else {
             getStyleClass().clear();
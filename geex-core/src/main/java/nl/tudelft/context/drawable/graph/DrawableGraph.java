@@ -1,14 +1,14 @@
 package nl.tudelft.context.drawable.graph;
 
+import nl.tudelft.context.model.graph.CsrGraph;
 import nl.tudelft.context.model.graph.DefaultGraph;
 import nl.tudelft.context.model.graph.DefaultNode;
 import nl.tudelft.context.model.graph.StackGraph;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.function.ToIntFunction;
-import java.util.stream.Collectors;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 
 /**
  * @author René Vennik
@@ -58,99 +58,143 @@ public class DrawableGraph extends DefaultGraph<AbstractDrawableNode> {
 
     /**
      * Calculate all the position of the graph elements.
+     * <p>
+     * The columns are walked on a compressed copy of the graph, so no edge objects are visited.
+     * </p>
      */
     public final void position() {
 
-        List<AbstractDrawableNode> start = getFirstNodes();
+        final CsrGraph<AbstractDrawableNode> csr = new CsrGraph<>(this);
+
+        int[] start = firstNodes(csr);
 
         int column = 0;
         boolean shifted = false;
-        while (!start.isEmpty()) {
-            shifted = positionNodes(start, column++, shifted);
-            start = nextColumn(start);
+        while (start.length > 0) {
+            shifted = positionNodes(csr, start, column++, shifted);
+            start = nextColumn(csr, start);
         }
 
     }
 
+    /**
+     * Get the ids of the nodes without incoming edges.
+     *
+     * @param csr Compressed graph
+     * @return ids of the first nodes
+     */
+    private static int[] firstNodes(final CsrGraph<AbstractDrawableNode> csr) {
+
+        return IntStream.range(0, csr.size())
+                .filter(id -> csr.inDegree(id) == 0)
+                .toArray();
+
+    }
+
     /**
      * Determine the next column of the graph.
      *
-     * @param nodes nodes to display
-     * @return next column
+     * @param csr   Compressed graph
+     * @param nodes ids of the nodes in the current column
+     * @return ids of the nodes in the next column
      */
-    private List<AbstractDrawableNode> nextColumn(final List<AbstractDrawableNode> nodes) {
+    private static int[] nextColumn(final CsrGraph<AbstractDrawableNode> csr, final int[] nodes) {
+
+        final IntStream.Builder next = IntStream.builder();
+        for (final int node : nodes) {
+            for (int edge = csr.targetStart(node); edge < csr.targetEnd(node); edge++) {
+                final int target = csr.target(edge);
+                if (csr.nodeOf(target).incrementIncoming() == csr.inDegree(target)) {
+                    next.add(target);
+                }
+            }
+        }
 
-        return nodes.stream()
-                .flatMap(node -> outgoingEdgesOf(node).stream()
-                        .map(this::getEdgeTarget)
-                        .filter(target -> target.incrementIncoming() == inDegreeOf(target)))
-                .collect(Collectors.toList());
+        return next.build().toArray();
 
     }
 
     /**
      * Positions the nodes of a column.
      *
-     * @param nodes       nodes to draw
+     * @param csr         Compressed graph
+     * @param nodes       ids of the nodes to draw
      * @param column      column to draw at
      * @param prevShifted If previous column is shifted
      * @return If column is shifted
      */
-    private boolean positionNodes(final List<AbstractDrawableNode> nodes, final int column, final boolean prevShifted) {
+    private static boolean positionNodes(final CsrGraph<AbstractDrawableNode> csr,
+                                         final int[] nodes,
+                                         final int column,
+                                         final boolean prevShifted) {
 
-        final double shift = nodes.size() * LABEL_SPACING / 2d;
+        final double shift = nodes.length * LABEL_SPACING / 2d;
 
         int row = 0;
-        for (final AbstractDrawableNode node : nodes) {
+        for (final int id : nodes) {
+            final AbstractDrawableNode node = csr.nodeOf(id);
             node.setTranslateX(column * LABEL_SPACING);
             node.setTranslateY(row * LABEL_SPACING - shift);
             row++;
         }
 
-        return isShifted(nodes, prevShifted);
+        return isShifted(csr, nodes, prevShifted);
 
     }
 
     /**
      * Check if the node should be shifted.
      *
-     * @param nodes       Nodes to possible shift if only 1 node
+     * @param csr         Compressed graph
+     * @param nodes       ids of the nodes to possible shift if only 1 node
      * @param prevShifted If the previous node was shifted
      * @return If this node is shifted
      */
-    private boolean isShifted(final List<AbstractDrawableNode> nodes, final boolean prevShifted) {
-        if (nodes.size() == 1) {
-            return nodes.stream().map(node -> {
-                final boolean single = hasEdges(getSources(node), this::outDegreeOf)
-                        && hasEdges(getTargets(node), this::inDegreeOf);
-                final boolean drawShift = inDegreeOf(node) == 1 && outDegreeOf(node) >= 1 && single;
-                if (node.getNode().isShift() || drawShift) {
-                    if (prevShifted) {
-                        node.setTranslateY(0);
-                    } else {
-                        node.setTranslateY(-LABEL_SPACING);
-                    }
-                    return !prevShifted;
-                }
-                return false;
-            }).findFirst().get();
+    private static boolean isShifted(final CsrGraph<AbstractDrawableNode> csr,
+                                     final int[] nodes,
+                                     final boolean prevShifted) {
+
+        if (nodes.length != 1) {
+            return false;
+        }
+
+        final int id = nodes[0];
+        final AbstractDrawableNode node = csr.nodeOf(id);
+        final boolean single = hasEdges(csr.sourceStart(id), csr.sourceEnd(id), csr::source, csr::outDegree)
+                && hasEdges(csr.targetStart(id), csr.targetEnd(id), csr::target, csr::inDegree);
+        final boolean drawShift = csr.inDegree(id) == 1 && csr.outDegree(id) >= 1 && single;
+        if (node.getNode().isShift() || drawShift) {
+            if (prevShifted) {
+                node.setTranslateY(0);
+            } else {
+                node.setTranslateY(-LABEL_SPACING);
+            }
+            return !prevShifted;
         }
         return false;
+
     }
 
     /**
      * Check if there are nodes with more then 1 incoming or outgoing edges.
      *
-     * @param nodes       Nodes to count from
+     * @param from        index of the first edge
+     * @param to          index after the last edge
+     * @param neighbour   Function that returns the node at the other side of an edge
      * @param degreeCount Function that returns the degree of edges
      * @return If there are nodes with a higher than 1 edge degree
      */
-    private boolean hasEdges(final List<AbstractDrawableNode> nodes,
-                             final ToIntFunction<AbstractDrawableNode> degreeCount) {
-
-        return nodes.stream()
-                .mapToInt(degreeCount)
-                .anyMatch(source -> source > 1);
+    private static boolean hasEdges(final int from,
+                                    final int to,
+                                    final IntUnaryOperator neighbour,
+                                    final IntUnaryOperator degreeCount) {
+
+        for (int edge = from; edge < to; edge++) {
+            if (degreeCount.applyAsInt(neighbour.applyAsInt(edge)) > 1) {
+                return true;
+            }
+        }
+        return false;
 
     }
 
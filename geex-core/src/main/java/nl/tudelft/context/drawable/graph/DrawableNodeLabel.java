@@ -80,7 +80,7 @@ public class DrawableNodeLabel extends AbstractLabel {
      */
     private Label initMainLabel() {
 
-        final Label label = new Label(Integer.toString(node.getContent().length()));
+        final Label label = new Label(Integer.toString(node.getContentLength()));
         label.setCache(true);
         label.getStyleClass().add("info-label");
 
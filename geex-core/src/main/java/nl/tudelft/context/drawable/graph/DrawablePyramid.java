@@ -0,0 +1,103 @@
+package nl.tudelft.context.drawable.graph;
+
+import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.filter.ZoomPyramid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Zoom levels of a graph, with every level positioned to draw.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class DrawablePyramid {
+
+    /**
+     * Zoom levels of the graph.
+     */
+    private final ZoomPyramid pyramid;
+
+    /**
+     * Drawable graph of every level.
+     */
+    private final List<DrawableGraph> levels;
+
+    /**
+     * Build the zoom levels of a graph and position them.
+     *
+     * @param graph Positioned graph of the lowest level
+     */
+    public DrawablePyramid(final DrawableGraph graph) {
+        this(graph, () -> false);
+    }
+
+    /**
+     * Build the zoom levels of a graph and position them, until cancelled.
+     * <p>
+     * The graph of the lowest level is already positioned, it is used as the first level.
+     * </p>
+     *
+     * @param graph     Positioned graph of the lowest level
+     * @param cancelled If building is cancelled, no more levels are built or positioned
+     */
+    public DrawablePyramid(final DrawableGraph graph, final BooleanSupplier cancelled) {
+
+        pyramid = new ZoomPyramid(graph.getGraph(), cancelled);
+        levels = new ArrayList<>(pyramid.size());
+        levels.add(graph);
+        for (int level = 1; level < pyramid.size() && !cancelled.getAsBoolean(); level++) {
+            levels.add(new DrawableGraph(pyramid.getLevel(level)));
+        }
+
+    }
+
+    /**
+     * Get the amount of levels.
+     *
+     * @return Amount of levels
+     */
+    public int size() {
+        return levels.size();
+    }
+
+    /**
+     * Get the drawable graph of a level.
+     *
+     * @param level Level, 0 is the graph the pyramid is built on
+     * @return Drawable graph of the level
+     */
+    public DrawableGraph getLevel(final int level) {
+        return levels.get(level);
+    }
+
+    /**
+     * Find the drawn node on a level which contains or is contained in a node of an other level.
+     *
+     * @param from  Level of the node
+     * @param node  Node to find
+     * @param level Level to find the node on
+     * @return The drawn node on the level, if any
+     */
+    public Optional<AbstractDrawableNode> find(final int from, final DefaultNode node, final int level) {
+
+        DefaultNode current = node;
+        for (int i = from; current != null && i < level; i++) {
+            current = pyramid.getParent(i, current);
+        }
+        for (int i = from; current != null && i > level; i--) {
+            current = pyramid.getChildren(i, current).stream().findFirst().orElse(null);
+        }
+
+        final DefaultNode target = current;
+        return levels.get(level).vertexSet().stream()
+                .filter(drawableNode -> drawableNode.getNode().equals(target))
+                .findFirst();
+
+    }
+
+}
@@ -12,6 +12,7 @@ import nl.tudelft.context.model.annotation.ResistanceMap;
 import nl.tudelft.context.model.annotation.ResistanceParser;
 import nl.tudelft.context.model.graph.GraphMap;
 import nl.tudelft.context.model.graph.GraphParser;
+import nl.tudelft.context.service.LoadScheduler;
 import nl.tudelft.context.service.LoadService;
 import nl.tudelft.context.workspace.Workspace;
 import org.junit.BeforeClass;
@@ -66,6 +67,7 @@ public class GraphControllerTest {
         Workspace workspace = mock(Workspace.class);
 
         when(workspace.getNewick()).thenReturn(new SimpleObjectProperty<>());
+        when(workspace.getScheduler()).thenReturn(new LoadScheduler());
 
         when(mainController.getWorkspace()).thenReturn(workspace);
 
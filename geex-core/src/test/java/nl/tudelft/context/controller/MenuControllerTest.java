@@ -106,4 +106,17 @@ public class MenuControllerTest {
         assertEquals(mc.getLoadGenomeGraph().disableProperty().getValue(), true);
     }
 
+    @Test
+    public void testZoom() {
+
+        MenuBar mb = new MenuBar();
+        MenuController mc = new MenuController(mainController, mb);
+
+        assertEquals(mc.getZoomIn().getText(), "Zoom in");
+        assertEquals(mc.getZoomIn().getAccelerator(), new KeyCodeCombination(KeyCode.EQUALS, KeyCombination.SHORTCUT_DOWN));
+        assertEquals(mc.getZoomOut().getText(), "Zoom out");
+        assertEquals(mc.getZoomOut().getAccelerator(), new KeyCodeCombination(KeyCode.MINUS, KeyCombination.SHORTCUT_DOWN));
+        assertEquals(mc.getZoomOut().disableProperty().getValue(), true);
+    }
+
 }
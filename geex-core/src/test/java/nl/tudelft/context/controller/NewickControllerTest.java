@@ -9,6 +9,7 @@ import nl.tudelft.context.model.newick.node.AbstractNode;
 import nl.tudelft.context.model.newick.node.StrandNode;
 import nl.tudelft.context.model.newick.Newick;
 import nl.tudelft.context.model.newick.selection.All;
+import nl.tudelft.context.service.LoadScheduler;
 import nl.tudelft.context.workspace.Workspace;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -47,6 +48,7 @@ public class NewickControllerTest {
         when(workspace.getCodingSequence()).thenReturn(new SimpleObjectProperty<>());
         when(workspace.getNewick()).thenReturn(new SimpleObjectProperty<>());
         when(workspace.getResistance()).thenReturn(new SimpleObjectProperty<>());
+        when(workspace.getScheduler()).thenReturn(new LoadScheduler());
 
         when(mainController.getWorkspace()).thenReturn(workspace);
 
@@ -0,0 +1,95 @@
+package nl.tudelft.context.controller.graphlist;
+
+import de.saxsys.javafx.test.JfxRunner;
+import javafx.application.Platform;
+import nl.tudelft.context.drawable.graph.DrawableGraph;
+import nl.tudelft.context.model.graph.GraphParser;
+import nl.tudelft.context.model.graph.StackGraph;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@RunWith(JfxRunner.class)
+public class ActiveGraphServiceTest {
+
+    File nodeFile = new File(ActiveGraphServiceTest.class.getResource("/graph/node.graph").getPath());
+    File edgeFile = new File(ActiveGraphServiceTest.class.getResource("/graph/edge.graph").getPath());
+
+    FilterPipeline pipeline;
+    ActiveGraphService service;
+
+    /**
+     * Create a service on the test graph.
+     *
+     * @throws IOException Test files not found
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        pipeline = new FilterPipeline();
+        pipeline.setBaseGraph(new GraphParser().setFiles(nodeFile, edgeFile).load()
+                .flat(new HashSet<>(Arrays.asList("Cat", "Dog"))));
+        service = new ActiveGraphService(pipeline);
+
+    }
+
+    /**
+     * The positioned graph is the graph of the pipeline with the filters, and the progress is complete.
+     */
+    @Test
+    public void testShow() throws Exception {
+
+        List<GraphFilter> filters = Arrays.asList(GraphFilter.SINGLE_POINT, GraphFilter.COLLAPSE);
+        CompletableFuture<DrawableGraph> shown = new CompletableFuture<>();
+        CompletableFuture<Double> progress = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            service.setOnSucceeded(event -> {
+                progress.complete(service.getProgress());
+                shown.complete(service.getValue());
+            });
+            service.show(filters);
+        });
+        DrawableGraph drawableGraph = shown.get(5000, TimeUnit.MILLISECONDS);
+
+        StackGraph filtered = pipeline.apply(filters);
+        assertSame(filtered, drawableGraph.getGraph());
+        assertEquals(filtered.vertexSet().size(), drawableGraph.vertexSet().size());
+        assertEquals(1, progress.get(), 0);
+
+    }
+
+    /**
+     * Cancelling the service does not show a graph.
+     */
+    @Test
+    public void testCancel() throws Exception {
+
+        CompletableFuture<DrawableGraph> value = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            service.setOnCancelled(event -> value.complete(service.getValue()));
+            service.show(Arrays.asList(GraphFilter.SINGLE_POINT, GraphFilter.COLLAPSE));
+            service.cancel();
+        });
+
+        assertNull(value.get(5000, TimeUnit.MILLISECONDS));
+
+    }
+
+}
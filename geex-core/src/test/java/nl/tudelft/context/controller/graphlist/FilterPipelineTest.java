@@ -0,0 +1,119 @@
+package nl.tudelft.context.controller.graphlist;
+
+import nl.tudelft.context.model.graph.GraphParser;
+import nl.tudelft.context.model.graph.StackGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class FilterPipelineTest {
+
+    File nodeFile = new File(FilterPipelineTest.class.getResource("/graph/node.graph").getPath());
+    File edgeFile = new File(FilterPipelineTest.class.getResource("/graph/edge.graph").getPath());
+
+    StackGraph baseGraph;
+    FilterPipeline pipeline;
+
+    /**
+     * Create a pipeline on the test graph.
+     *
+     * @throws IOException Test files not found
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        baseGraph = new GraphParser().setFiles(nodeFile, edgeFile).load()
+                .flat(new HashSet<>(Arrays.asList("Cat", "Dog")));
+        pipeline = new FilterPipeline();
+        pipeline.setBaseGraph(baseGraph);
+
+    }
+
+    /**
+     * Without filters the base graph is returned.
+     */
+    @Test
+    public void testNoFilters() {
+
+        assertSame(baseGraph, pipeline.apply(Collections.emptyList()));
+
+    }
+
+    /**
+     * Without a base graph there is nothing to filter.
+     */
+    @Test
+    public void testNoBaseGraph() {
+
+        pipeline.setBaseGraph(null);
+        assertNull(pipeline.apply(Collections.singletonList(GraphFilter.COLLAPSE)));
+
+    }
+
+    /**
+     * Toggling the last filter reuses the graphs of the earlier steps.
+     */
+    @Test
+    public void testToggle() {
+
+        StackGraph both = pipeline.apply(Arrays.asList(GraphFilter.SINGLE_POINT, GraphFilter.COLLAPSE));
+        StackGraph first = pipeline.apply(Collections.singletonList(GraphFilter.SINGLE_POINT));
+
+        assertNotSame(both, first);
+        assertSame(both, pipeline.apply(Arrays.asList(GraphFilter.SINGLE_POINT, GraphFilter.COLLAPSE)));
+
+    }
+
+    /**
+     * Appending a filter starts at the graph of the existing filters.
+     */
+    @Test
+    public void testAppend() {
+
+        StackGraph first = pipeline.apply(Collections.singletonList(GraphFilter.SINGLE_POINT));
+        pipeline.apply(Arrays.asList(GraphFilter.SINGLE_POINT, GraphFilter.COLLAPSE));
+
+        assertSame(first, pipeline.apply(Collections.singletonList(GraphFilter.SINGLE_POINT)));
+
+    }
+
+    /**
+     * A reordered chain is computed again.
+     */
+    @Test
+    public void testReorder() {
+
+        StackGraph graph = pipeline.apply(Arrays.asList(GraphFilter.SINGLE_POINT, GraphFilter.COLLAPSE));
+
+        assertNotSame(graph, pipeline.apply(Arrays.asList(GraphFilter.COLLAPSE, GraphFilter.SINGLE_POINT)));
+
+    }
+
+    /**
+     * Setting a new base graph clears the cache.
+     */
+    @Test
+    public void testSetBaseGraph() {
+
+        StackGraph graph = pipeline.apply(Collections.singletonList(GraphFilter.COLLAPSE));
+        pipeline.setBaseGraph(baseGraph);
+
+        assertNotSame(graph, pipeline.apply(Collections.singletonList(GraphFilter.COLLAPSE)));
+
+    }
+
+}
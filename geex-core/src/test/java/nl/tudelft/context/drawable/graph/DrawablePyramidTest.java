@@ -0,0 +1,88 @@
+package nl.tudelft.context.drawable.graph;
+
+import nl.tudelft.context.model.graph.Graph;
+import nl.tudelft.context.model.graph.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class DrawablePyramidTest {
+
+    DrawableGraph drawableGraph;
+
+    /**
+     * Position a chain of bubbles.
+     */
+    @Before
+    public void setUp() {
+
+        Graph graph = new Graph();
+        Node previous = node(0);
+        graph.addVertex(previous);
+        for (int i = 1; i < 60; i += 3) {
+            Node upper = node(i);
+            Node lower = node(i + 1);
+            Node next = node(i + 2);
+            graph.addVertex(upper);
+            graph.addVertex(lower);
+            graph.addVertex(next);
+            graph.setEdgeWeight(graph.addEdge(previous, upper), 0.5);
+            graph.setEdgeWeight(graph.addEdge(previous, lower), 0.5);
+            graph.setEdgeWeight(graph.addEdge(upper, next), 0.5);
+            graph.setEdgeWeight(graph.addEdge(lower, next), 0.5);
+            previous = next;
+        }
+
+        drawableGraph = new DrawableGraph(graph);
+
+    }
+
+    /**
+     * Create a node.
+     *
+     * @param id Id of the node
+     * @return The node
+     */
+    private static Node node(final int id) {
+        return new Node(id, new HashSet<>(Arrays.asList("Cat", "Dog")), id, id + 1, "A");
+    }
+
+    /**
+     * The positioned graph is the lowest level, the levels above are positioned as well.
+     */
+    @Test
+    public void testLevels() {
+
+        DrawablePyramid pyramid = new DrawablePyramid(drawableGraph);
+
+        assertTrue(pyramid.size() > 1);
+        assertSame(drawableGraph, pyramid.getLevel(0));
+        assertEquals(1, pyramid.getLevel(pyramid.size() - 1).vertexSet().size());
+
+    }
+
+    /**
+     * A cancelled build only has the positioned graph.
+     */
+    @Test
+    public void testCancelled() {
+
+        DrawablePyramid pyramid = new DrawablePyramid(drawableGraph, () -> true);
+
+        assertEquals(1, pyramid.size());
+        assertSame(drawableGraph, pyramid.getLevel(0));
+
+    }
+
+}
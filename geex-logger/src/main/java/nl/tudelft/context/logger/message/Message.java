@@ -69,6 +69,16 @@ public enum Message {
      */
     FAIL_LOAD_RECENTWORKSPACE("Could not load recent workspace."),
 
+    /**
+     * Message used when the workspace cache could not be written.
+     */
+    FAIL_WRITE_CACHE("Could not write workspace cache."),
+
+    /**
+     * Message used when the workspace is loaded from the cache.
+     */
+    SUCCESS_LOAD_CACHE("Workspace loaded from cache."),
+
     /**
      * Message used when the application is ready.
      */
@@ -6,25 +6,57 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
 
 /**
+ * Parser which reads files into a single object.
+ * <p>
+ * The bytes read from the files are counted, sub classes count the records they parse.
+ * Both can be read from an other thread while parsing, just like the parser can be cancelled.
+ * </p>
+ *
  * @param <T> The filetype this parser should load to.
  * @author Gerben Oolbekkink
  * @version 1.0
  * @since 24-5-2015
  */
 public abstract class Parser<T> implements Loadable<T> {
+    /**
+     * Extension of gzip compressed files.
+     */
+    public static final String GZIP_EXTENSION = ".gz";
+
     /**
      * Reader used for reading the file.
      */
     BufferedReader[] readerList;
 
     /**
-     * The state of this parser.
+     * The state of this parser, set from an other thread.
+     */
+    private volatile boolean cancelled = false;
+
+    /**
+     * Amount of bytes read, compressed bytes for compressed files.
      */
-    private boolean cancelled = false;
+    private final LongAdder bytesRead = new LongAdder();
+
+    /**
+     * Amount of records parsed.
+     */
+    private final LongAdder recordsRead = new LongAdder();
+
+    /**
+     * Amount of bytes to read.
+     */
+    private volatile long totalBytes = 0;
 
     /**
      * Empty constructor for child classes which extend functionality.
@@ -34,7 +66,7 @@ public abstract class Parser<T> implements Loadable<T> {
     }
 
     /**
-     * Set the readers for this parser.
+     * Set the readers for this parser, files ending with .gz are decompressed while reading.
      *
      * @param files The files to read from
      * @return this
@@ -44,14 +76,36 @@ public abstract class Parser<T> implements Loadable<T> {
     @Override
     public Parser<T> setFiles(final File... files) throws FileNotFoundException, UnsupportedEncodingException {
         readerList = new BufferedReader[files.length];
+        long total = 0;
         for (int i = 0; i < files.length; i++) {
             File file = files[i];
-            readerList[i] = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+            readerList[i] = new BufferedReader(new InputStreamReader(open(file), "UTF-8"));
+            total += file.length();
         }
+        setTotalBytes(total);
 
         return this;
     }
 
+    /**
+     * Open a file, decompressing it if it is gzip compressed, the bytes read from the file are counted.
+     *
+     * @param file The file to open
+     * @return Stream with the content of the file
+     * @throws FileNotFoundException If the file is not found.
+     */
+    private InputStream open(final File file) throws FileNotFoundException {
+        InputStream stream = new CountingInputStream(new FileInputStream(file), bytesRead);
+        if (!file.getName().toLowerCase().endsWith(GZIP_EXTENSION)) {
+            return stream;
+        }
+        try {
+            return new GZIPInputStream(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Set the state of this parser to cancelled.
      */
@@ -69,6 +123,48 @@ public abstract class Parser<T> implements Loadable<T> {
         return cancelled;
     }
 
+    /**
+     * Set the amount of bytes to read, for sub classes which do not read through the readers.
+     *
+     * @param totalBytes Bytes to read
+     */
+    protected final void setTotalBytes(final long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * Count bytes read, for sub classes which do not read through the readers.
+     *
+     * @param bytes Amount of bytes read
+     */
+    protected final void countBytes(final long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    /**
+     * Count records parsed, can be called from multiple threads.
+     *
+     * @param records Amount of records parsed
+     */
+    protected final void countRecords(final long records) {
+        recordsRead.add(records);
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    @Override
+    public long getRecordsRead() {
+        return recordsRead.sum();
+    }
+
     /**
      * Parse the object in this file.
      *
@@ -87,4 +183,52 @@ public abstract class Parser<T> implements Loadable<T> {
      * @return Parsed object.
      */
     protected abstract T parse(BufferedReader... file);
+
+    /**
+     * Stream which counts the bytes read from an other stream.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        /**
+         * Counter to add the bytes read to.
+         */
+        private final LongAdder counter;
+
+        /**
+         * Create a stream which counts the bytes read.
+         *
+         * @param in      Stream to read from
+         * @param counter Counter to add the bytes read to
+         */
+        CountingInputStream(final InputStream in, final LongAdder counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counter.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                counter.add(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(n);
+            counter.add(skipped);
+            return skipped;
+        }
+
+    }
 }
@@ -1,11 +1,15 @@
 package nl.tudelft.context.model.annotation;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 /**
  * @param <T> The type of list, as values in the tree map.
@@ -22,19 +26,60 @@ public abstract class AnnotationMap<T extends Annotation> {
     TreeMap<Integer, List<T>> annotationsByStart;
 
     /**
-     * Annotations grouped by ref end.
+     * Annotations ordered by ref start, the nodes of an implicit search tree where the middle of a
+     * range is the root of the range.
      */
-    TreeMap<Integer, List<T>> annotationsByEnd;
+    private final List<T> sorted;
 
     /**
-     * Create annotation map based on the annotations indexed by ref start and ref end.
+     * Ref start of the sorted annotations.
+     */
+    private final int[] starts;
+
+    /**
+     * Ref end of the sorted annotations.
+     */
+    private final int[] ends;
+
+    /**
+     * Largest ref end in the sub tree of every sorted annotation.
+     */
+    private final int[] maxEnds;
+
+    /**
+     * Create annotation map based on the annotations indexed by ref start, with an interval tree on top.
      *
      * @param annotations List containing annotations.
      */
     public AnnotationMap(final List<T> annotations) {
 
         annotationsByStart = groupBy(annotations, Annotation::getStart);
-        annotationsByEnd = groupBy(annotations, Annotation::getEnd);
+
+        sorted = new ArrayList<>(getAnnotations());
+        starts = sorted.stream().mapToInt(Annotation::getStart).toArray();
+        ends = sorted.stream().mapToInt(Annotation::getEnd).toArray();
+        maxEnds = new int[sorted.size()];
+        buildMaxEnds(0, sorted.size());
+
+    }
+
+    /**
+     * Calculate the largest ref end of every sub tree in a range.
+     *
+     * @param from First index of the range (inclusive)
+     * @param to   Last index of the range (exclusive)
+     * @return Largest ref end in the range, the minimum integer if empty
+     */
+    private int buildMaxEnds(final int from, final int to) {
+
+        if (from >= to) {
+            return Integer.MIN_VALUE;
+        }
+
+        final int middle = (from + to) >>> 1;
+        maxEnds[middle] = Math.max(ends[middle], Math.max(buildMaxEnds(from, middle), buildMaxEnds(middle + 1, to)));
+
+        return maxEnds[middle];
 
     }
 
@@ -56,20 +101,118 @@ public abstract class AnnotationMap<T extends Annotation> {
     }
 
     /**
-     * Get annotations between ref start and end position.
+     * Get all annotations, ordered by ref start.
+     *
+     * @return All annotations
+     */
+    public List<T> getAnnotations() {
+        return annotationsByStart.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get annotations overlapping the ref start and end position, including annotations spanning the range.
      *
      * @param refStart From which ref start (inclusive)
      * @param refEnd   To which ref end (inclusive)
-     * @return Annotations between ref start and end position
+     * @return Annotations overlapping the range, ordered by ref start
      */
     public List<T> annotationsBetween(final Integer refStart, final Integer refEnd) {
-        return Stream.concat(
-                annotationsByStart.subMap(refStart, true, refEnd, true).values().stream(),
-                annotationsByEnd.subMap(refStart, true, refEnd, true).values().stream())
-                .flatMap(Collection::stream)
-                .distinct()
-                .collect(Collectors.toList());
+
+        final List<T> overlapping = new ArrayList<>();
+        collectOverlapping(0, sorted.size(), refStart, refEnd, overlapping);
+
+        return overlapping;
+
     }
 
+    /**
+     * Collect the annotations of a sub tree overlapping a range, skipping sub trees which end before
+     * the range or start after it.
+     *
+     * @param from        First index of the sub tree (inclusive)
+     * @param to          Last index of the sub tree (exclusive)
+     * @param refStart    From which ref start (inclusive)
+     * @param refEnd      To which ref end (inclusive)
+     * @param overlapping Annotations found so far
+     */
+    private void collectOverlapping(final int from, final int to, final int refStart, final int refEnd,
+                                    final List<T> overlapping) {
+
+        if (from >= to) {
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+        if (maxEnds[middle] < refStart) {
+            return;
+        }
+
+        collectOverlapping(from, middle, refStart, refEnd, overlapping);
+
+        if (starts[middle] > refEnd) {
+            return;
+        }
+        if (ends[middle] >= refStart) {
+            overlapping.add(sorted.get(middle));
+        }
+
+        collectOverlapping(middle + 1, to, refStart, refEnd, overlapping);
+
+    }
+
+    /**
+     * Get the annotations overlapping many ranges at once, by sweeping the ranges ordered by ref start
+     * along the annotations ordered by ref start.
+     * <p>
+     * Annotations which started before the current range stay active until they end before it, the
+     * annotations starting inside the range are read ahead. Every annotation is activated and retired
+     * once, so the cost is the sorting plus the size of the result.
+     * </p>
+     *
+     * @param refStarts Ref start of every range (inclusive)
+     * @param refEnds   Ref end of every range (inclusive)
+     * @return For every range the annotations overlapping it, ordered by ref start
+     */
+    public List<List<T>> annotationsBetween(final int[] refStarts, final int[] refEnds) {
+
+        final List<List<T>> result = new ArrayList<>(refStarts.length);
+        IntStream.range(0, refStarts.length).forEach(range -> result.add(null));
+
+        final int[] order = IntStream.range(0, refStarts.length).boxed()
+                .sorted(Comparator.comparingInt(range -> refStarts[range]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        final TreeSet<Integer> active = new TreeSet<>();
+        final PriorityQueue<Integer> byEnd = new PriorityQueue<>(Comparator.comparingInt(index -> ends[index]));
+        int next = 0;
+
+        for (final int range : order) {
+            final int refStart = refStarts[range];
+            final int refEnd = refEnds[range];
+
+            while (next < starts.length && starts[next] < refStart) {
+                active.add(next);
+                byEnd.add(next++);
+            }
+            while (!byEnd.isEmpty() && ends[byEnd.peek()] < refStart) {
+                active.remove(byEnd.poll());
+            }
+
+            final List<T> overlapping = new ArrayList<>();
+            active.forEach(index -> overlapping.add(sorted.get(index)));
+            for (int index = next; index < starts.length && starts[index] <= refEnd; index++) {
+                if (ends[index] >= refStart) {
+                    overlapping.add(sorted.get(index));
+                }
+            }
+            result.set(range, overlapping);
+        }
+
+        return result;
+
+    }
 
 }
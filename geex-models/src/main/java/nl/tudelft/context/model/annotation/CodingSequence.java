@@ -108,6 +108,69 @@ public class CodingSequence extends Annotation {
         this.attributes = attributes;
     }
 
+    /**
+     * Gets the sequence ID used for the coordinates.
+     *
+     * @return The sequence ID
+     */
+    public String getSeqId() {
+        return seqId;
+    }
+
+    /**
+     * Gets the procedure which was used to retrieve the feature.
+     *
+     * @return The source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the type of the feature.
+     *
+     * @return The type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the score of the feature.
+     *
+     * @return The score
+     */
+    public float getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the strand of the feature.
+     *
+     * @return The strand
+     */
+    public char getStrand() {
+        return strand;
+    }
+
+    /**
+     * Gets the phase of the feature.
+     *
+     * @return The phase
+     */
+    public char getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the attributes of the feature.
+     *
+     * @return The attributes
+     */
+    public String getAttributes() {
+        return attributes;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -3,14 +3,23 @@ package nl.tudelft.context.model.annotation;
 import nl.tudelft.context.model.Parser;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
 
 
 /**
+ * Parser for GFF files.
+ * <p>
+ * Lines are split on tabs without regular expressions, comment and directive lines are skipped and the
+ * sequence ids, sources and types, which are the same for most lines, are shared between the coding sequences.
+ * </p>
+ *
  * @author Jasper Nieuwdorp
- * @version 1.0
+ * @version 1.1
  * @since 21-5-2015
  */
 public class CodingSequenceParser extends Parser<CodingSequenceMap> {
@@ -60,6 +69,26 @@ public class CodingSequenceParser extends Parser<CodingSequenceMap> {
      */
     public static final int ATTRIBUTES_INDEX = 8;
 
+    /**
+     * The amount of columns in a line.
+     */
+    public static final int COLUMNS = 9;
+
+    /**
+     * Character at the start of a comment or directive line.
+     */
+    private static final char COMMENT = '#';
+
+    /**
+     * Directive after which the file only contains sequences.
+     */
+    private static final String FASTA_DIRECTIVE = "##FASTA";
+
+    /**
+     * Value of a column without a value.
+     */
+    private static final String UNDEFINED = ".";
+
 
     /**
      * Parse the file into an CodingSequenceMap.
@@ -70,21 +99,64 @@ public class CodingSequenceParser extends Parser<CodingSequenceMap> {
     @Override
     public CodingSequenceMap parse(final BufferedReader... readerList) {
         BufferedReader reader = readerList[0];
-        Scanner sc = new Scanner(reader);
         List<CodingSequence> codingSequences = new ArrayList<>();
-        String line;
-        String fileSplitBy = "\\t";
-        while (sc.hasNextLine() && !isCancelled()) {
-            line = sc.nextLine();
-            String[] splitLine = line.split(fileSplitBy);
-            codingSequences.add(getCodingSequence(splitLine));
+        Map<String, String> names = new HashMap<>();
+        String[] splitLine = new String[COLUMNS];
+        try {
+            String line = reader.readLine();
+            while (line != null && !isCancelled() && !line.startsWith(FASTA_DIRECTIVE)) {
+                if (!line.isEmpty() && line.charAt(0) != COMMENT) {
+                    split(line, splitLine);
+                    splitLine[SEQ_ID_INDEX] = intern(names, splitLine[SEQ_ID_INDEX]);
+                    splitLine[SOURCE_INDEX] = intern(names, splitLine[SOURCE_INDEX]);
+                    splitLine[TYPE_INDEX] = intern(names, splitLine[TYPE_INDEX]);
+                    codingSequences.add(getCodingSequence(splitLine));
+                    countRecords(1);
+                }
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
         return new CodingSequenceMap(codingSequences);
     }
 
     /**
-     * Read a splitted line and generate an annotation.
+     * Split a line on tabs, the last column contains the rest of the line.
+     *
+     * @param line      Line to split
+     * @param splitLine Columns of the line, missing columns are empty
+     */
+    private static void split(final String line, final String[] splitLine) {
+        int from = 0;
+        for (int i = 0; i < COLUMNS; i++) {
+            int to = line.indexOf('\t', from);
+            if (to < 0 || i == COLUMNS - 1) {
+                to = line.length();
+            }
+            if (from > to) {
+                splitLine[i] = "";
+            } else {
+                splitLine[i] = line.substring(from, to);
+            }
+            from = to + 1;
+        }
+    }
+
+    /**
+     * Get the shared instance of a value.
+     *
+     * @param names Values seen so far
+     * @param value Value to share
+     * @return The first instance of the value
+     */
+    private static String intern(final Map<String, String> names, final String value) {
+        return names.computeIfAbsent(value, key -> key);
+    }
+
+    /**
+     * Read a splitted line and generate an annotation, an undefined score is read as 0.
      *
      * @param splitLine the line with information for the annotation
      * @return CodingSequence
@@ -96,7 +168,10 @@ public class CodingSequenceParser extends Parser<CodingSequenceMap> {
         String type = splitLine[TYPE_INDEX];
         int start = Integer.parseInt(splitLine[START_INDEX]);
         int end = Integer.parseInt(splitLine[END_INDEX]);
-        float score = Float.parseFloat(splitLine[SCORE_INDEX]);
+        float score = 0f;
+        if (!UNDEFINED.equals(splitLine[SCORE_INDEX])) {
+            score = Float.parseFloat(splitLine[SCORE_INDEX]);
+        }
         char strand = splitLine[STRAND_INDEX].charAt(0);
         char phase = splitLine[PHASE_INDEX].charAt(0);
         String attributes = splitLine[ATTRIBUTES_INDEX];
@@ -1,10 +1,11 @@
 package nl.tudelft.context.model.annotation;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * @author Jasper Boot
- * @version 1.0
+ * @version 1.1
  * @since 17-06-2015
  */
 public class ResistanceMap extends AnnotationMap<Resistance> {
@@ -18,4 +19,38 @@ public class ResistanceMap extends AnnotationMap<Resistance> {
         super(resistances);
     }
 
+    /**
+     * Builder for a resistance map, which can be reused after building.
+     */
+    public static final class Builder {
+
+        /**
+         * Resistances added.
+         */
+        private final List<Resistance> resistances = new ArrayList<>();
+
+        /**
+         * Add a resistance.
+         *
+         * @param resistance Resistance to add
+         * @return this
+         */
+        public Builder add(final Resistance resistance) {
+
+            resistances.add(resistance);
+            return this;
+
+        }
+
+        /**
+         * Build the resistance map of the resistances added so far.
+         *
+         * @return The resistance map
+         */
+        public ResistanceMap build() {
+            return new ResistanceMap(new ArrayList<>(resistances));
+        }
+
+    }
+
 }
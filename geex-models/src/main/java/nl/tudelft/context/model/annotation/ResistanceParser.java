@@ -4,79 +4,90 @@ import nl.tudelft.context.logger.Log;
 import nl.tudelft.context.model.Parser;
 
 import java.io.BufferedReader;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 
 /**
+ * Parser for resistance catalogues, with lines like {@code gene:type,change,filter,position<tab>drug}.
+ * <p>
+ * The fields are split by hand and header lines are skipped by their prefix, so no regular expression
+ * is evaluated. All catalogues given are parsed into one resistance map.
+ * </p>
+ *
  * @author Jasper Nieuwdorp
- * @version 1.1
+ * @version 1.2
  * @since 08-6-2015
  */
 public class ResistanceParser extends Parser<ResistanceMap> {
     /**
-     * The index of the group that holds the geneName.
+     * Prefix of a header line.
      */
-    public static final int GENE_NAME_INDEX = 1;
+    private static final String HEADER = "##";
 
     /**
-     * The index of the group that holds the typeOfMutation.
-     */
-    public static final int TYPE_OF_MUTATION_INDEX = 2;
-
-    /**
-     * The index of the group that holds the change.
-     */
-    public static final int CHANGE_INDEX = 3;
-
-    /**
-     * The index of the group that holds the filter.
-     */
-    public static final int FILTER_INDEX = 4;
-
-    /**
-     * The index of the group that holds the genomePosition.
-     */
-    public static final int GENOME_POSITION_SHIFT = 5;
-
-    /**
-     * The index of the group that holds the drugName.
+     * Check if a file is a resistance catalogue, which starts with a header line.
+     *
+     * @param file File to check
+     * @return If the first line of the file is a header line
      */
-    public static final int DRUG_NAME_INDEX = 6;
+    public static boolean isCatalogue(final File file) {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            return line != null && line.startsWith(HEADER);
+        } catch (IOException | UncheckedIOException e) {
+            Log.debug(e);
+            return false;
+        }
+    }
 
     /**
-     * Parse the file into an ResistanceMap.
+     * Parse the files into one ResistanceMap.
      *
-     * @param readerList Reader to read.
+     * @param readerList Readers to read.
      * @return A parsed resistanceMap.
      */
     @Override
     public ResistanceMap parse(final BufferedReader... readerList) {
-        BufferedReader reader = readerList[0];
-        Scanner sc = new Scanner(reader);
-        List<Resistance> resistances = new ArrayList<>();
-        String line;
-        while (sc.hasNextLine() && !isCancelled()) {
-            line = sc.nextLine();
-            while (line.matches("^##.*$")) {
-                line = sc.nextLine();
-            }
-            try {
-                resistances.add(getResistance(line));
-            } catch (ResistanceFormatException e) {
-                Log.debug(e.toString());
-                Log.debug(e);
+        ResistanceMap.Builder builder = new ResistanceMap.Builder();
+        try {
+            for (BufferedReader reader : readerList) {
+                String line = reader.readLine();
+                while (line != null && !isCancelled()) {
+                    if (!line.startsWith(HEADER)) {
+                        addResistance(builder, line);
+                    }
+                    line = reader.readLine();
+                }
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        return new ResistanceMap(resistances);
+        return builder.build();
     }
 
     /**
-     * Read a splitted line and generate an resistance.
+     * Add the resistance of a line, a line which is not a resistance is logged.
+     *
+     * @param builder Builder to add the resistance to
+     * @param line    The line with information for the resistance
+     */
+    private void addResistance(final ResistanceMap.Builder builder, final String line) {
+        try {
+            builder.add(getResistance(line));
+            countRecords(1);
+        } catch (ResistanceFormatException e) {
+            Log.debug(e.toString());
+            Log.debug(e);
+        }
+    }
+
+    /**
+     * Read a line and generate an resistance.
      *
      * @param line the line with information for the resistance.
      * @return Resistance
@@ -84,19 +95,45 @@ public class ResistanceParser extends Parser<ResistanceMap> {
      */
     public final Resistance getResistance(final String line)
             throws ResistanceFormatException {
-        Pattern p = Pattern.compile("(^.*):(.*),(.*),(.*),(\\d+)\\t([A-Z])");
-        Matcher matcher = p.matcher(line);
-        if (matcher.find()) {
-            String geneName = matcher.group(GENE_NAME_INDEX);
-            String typeOfMutation = matcher.group(TYPE_OF_MUTATION_INDEX);
-            String change = matcher.group(CHANGE_INDEX);
-            String filter = matcher.group(FILTER_INDEX);
-            int genomePosition = Integer.parseInt(matcher.group(GENOME_POSITION_SHIFT));
-            String drugName = getDrugName(matcher.group(DRUG_NAME_INDEX));
-            return new Resistance(geneName, typeOfMutation, change, filter, genomePosition, drugName);
-        } else {
+        int tab = line.indexOf('\t');
+        if (tab < 0 || tab + 1 >= line.length() || !Character.isUpperCase(line.charAt(tab + 1))) {
+            throw new ResistanceFormatException();
+        }
+        int positionComma = line.lastIndexOf(',', tab);
+        int filterComma = line.lastIndexOf(',', positionComma - 1);
+        int changeComma = line.lastIndexOf(',', filterComma - 1);
+        int colon = line.lastIndexOf(':', changeComma - 1);
+        if (colon < 0 || !isNumber(line, positionComma + 1, tab)) {
             throw new ResistanceFormatException();
         }
+
+        String geneName = line.substring(0, colon);
+        String typeOfMutation = line.substring(colon + 1, changeComma);
+        String change = line.substring(changeComma + 1, filterComma);
+        String filter = line.substring(filterComma + 1, positionComma);
+        int genomePosition = Integer.parseInt(line.substring(positionComma + 1, tab));
+        String drugName = getDrugName(String.valueOf(line.charAt(tab + 1)));
+        return new Resistance(geneName, typeOfMutation, change, filter, genomePosition, drugName);
+    }
+
+    /**
+     * Check if a part of a line is a non negative number.
+     *
+     * @param line Line to check
+     * @param from First index of the part (inclusive)
+     * @param to   Last index of the part (exclusive)
+     * @return If the part only consists of digits, and at least one
+     */
+    private static boolean isNumber(final String line, final int from, final int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
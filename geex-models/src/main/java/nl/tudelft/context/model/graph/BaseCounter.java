@@ -1,7 +1,5 @@
 package nl.tudelft.context.model.graph;
 
-import org.apache.commons.collections.bag.HashBag;
-
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Arrays;
@@ -9,16 +7,43 @@ import java.util.Locale;
 
 /**
  * @author Jasper Nieuwdorp
- * @version 1.2
+ * @version 1.3
  * @since 06-05-2015
  */
-public class BaseCounter extends HashBag {
+public class BaseCounter {
 
     /**
      * DecimalFormatter to format a float to 2 numbers after the period.
      */
     static DecimalFormat df = new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.US));
 
+    /**
+     * Bases which are counted separately.
+     */
+    private static final char[] BASES = {'A', 'T', 'C', 'G', 'N'};
+
+    /**
+     * Index of every ASCII character in the counts, -1 for characters which are not counted separately.
+     */
+    private static final int[] INDEX = new int[128];
+
+    static {
+        Arrays.fill(INDEX, -1);
+        for (int i = 0; i < BASES.length; i++) {
+            INDEX[BASES[i]] = i;
+        }
+    }
+
+    /**
+     * Occurrences of A, T, C, G and N.
+     */
+    final int[] counts = new int[BASES.length];
+
+    /**
+     * Total amount of characters counted, including characters which are not counted separately.
+     */
+    int size = 0;
+
     /**
      * Constructor fot the empty base counter.
      */
@@ -30,10 +55,51 @@ public class BaseCounter extends HashBag {
      *
      * @param bases String with the dna sequence
      */
-    public BaseCounter(final String bases) {
-        bases.chars()
-                .mapToObj(x -> (char) x)
-                .forEach(this::add);
+    public BaseCounter(final CharSequence bases) {
+        final int length = bases.length();
+        for (int i = 0; i < length; i++) {
+            final int index = index(bases.charAt(i));
+            if (index >= 0) {
+                counts[index]++;
+            }
+        }
+        size = length;
+    }
+
+    /**
+     * Get the index of a base in the counts.
+     *
+     * @param c The base
+     * @return Index of the base, -1 if the base is not counted separately
+     */
+    private static int index(final char c) {
+        if (c < INDEX.length) {
+            return INDEX[c];
+        }
+        return -1;
+    }
+
+    /**
+     * Get the occurrences of a base.
+     *
+     * @param c ATCGN char
+     * @return Occurrences of the base
+     */
+    public int getCount(final char c) {
+        final int index = index(c);
+        if (index >= 0) {
+            return counts[index];
+        }
+        return 0;
+    }
+
+    /**
+     * Get the total amount of characters counted.
+     *
+     * @return Total amount of characters
+     */
+    public int size() {
+        return size;
     }
 
     /**
@@ -78,11 +144,16 @@ public class BaseCounter extends HashBag {
 
     /**
      * Add an other base counter to this base counter.
+     * <p>
+     * Only the bases A, T, C, G and N of the other counter are added, other characters do not add to the size.
+     * </p>
      *
      * @param baseCounter Base counter to add.
      */
     public void addBaseCounter(final BaseCounter baseCounter) {
-        Arrays.asList('A', 'T', 'C', 'G', 'N').stream()
-                .forEach(base -> add(base, baseCounter.getCount(base)));
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += baseCounter.counts[i];
+            size += baseCounter.counts[i];
+        }
     }
 }
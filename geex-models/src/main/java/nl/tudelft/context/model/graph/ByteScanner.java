@@ -0,0 +1,414 @@
+package nl.tudelft.context.model.graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+
+/**
+ * Tokenizer for the graph files, which works directly on the bytes of the file.
+ * <p>
+ * Numbers are parsed without creating a String per token and names are interned,
+ * so only the content of a node results in a new object.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class ByteScanner {
+
+    /**
+     * Size of the buffer used when reading from a channel.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Initial size of the token buffer and the name table.
+     */
+    private static final int INITIAL_SIZE = 16;
+
+    /**
+     * Radix of the numbers in the graph files.
+     */
+    private static final int RADIX = 10;
+
+    /**
+     * Channel to read from, null if the whole input is in the buffer.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Buffer containing the bytes that are not read yet.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Buffer for the token that is read.
+     */
+    private byte[] token = new byte[INITIAL_SIZE];
+
+    /**
+     * Bytes of the names that are interned.
+     */
+    private byte[][] nameKeys = new byte[INITIAL_SIZE][];
+
+    /**
+     * Names that are interned, at the same index as their bytes.
+     */
+    private String[] names = new String[INITIAL_SIZE];
+
+    /**
+     * Amount of names that are interned.
+     */
+    private int nameCount = 0;
+
+    /**
+     * Create a scanner which reads from a channel.
+     *
+     * @param channel Channel to read from
+     */
+    public ByteScanner(final ReadableByteChannel channel) {
+
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        buffer.limit(0);
+
+    }
+
+    /**
+     * Create a scanner on the remaining bytes of a buffer.
+     *
+     * @param buffer Buffer to read from
+     */
+    public ByteScanner(final ByteBuffer buffer) {
+
+        this.channel = null;
+        this.buffer = buffer;
+
+    }
+
+    /**
+     * Check if there is another token.
+     *
+     * @return If there is another token
+     */
+    public boolean hasNext() {
+
+        return skipWhitespace() != -1;
+
+    }
+
+    /**
+     * Skip a single character, which must be the next non whitespace character.
+     *
+     * @param c Character to skip
+     */
+    public void skip(final char c) {
+
+        if (skipWhitespace() != c) {
+            throw new InputMismatchException("Expected '" + c + "'");
+        }
+        buffer.get();
+
+    }
+
+    /**
+     * Skip the next character if it is the given character, no whitespace is skipped.
+     *
+     * @param c Character to skip
+     * @return If the character is skipped
+     */
+    public boolean skipIf(final char c) {
+
+        if (peek() == c) {
+            buffer.get();
+            return true;
+        }
+        return false;
+
+    }
+
+    /**
+     * Parse the next token as an int.
+     *
+     * @return The parsed int
+     */
+    public int nextInt() {
+
+        int c = skipWhitespace();
+        final boolean negative = c == '-';
+        if (negative) {
+            buffer.get();
+            c = peek();
+        }
+
+        if (c < '0' || c > '9') {
+            throw new InputMismatchException("Expected a number");
+        }
+
+        int value = 0;
+        while (c >= '0' && c <= '9') {
+            buffer.get();
+            value = value * RADIX + c - '0';
+            c = peek();
+        }
+
+        if (negative) {
+            return -value;
+        }
+        return value;
+
+    }
+
+    /**
+     * Read the next name, which ends at whitespace or a comma.
+     * <p>
+     * Equal names return the same String.
+     * </p>
+     *
+     * @return The name
+     */
+    public String nextName() {
+
+        skipWhitespace();
+        int length = 0;
+        int c = peek();
+        while (c != -1 && c != ',' && !isWhitespace(c)) {
+            length = put(length, buffer.get());
+            c = peek();
+        }
+
+        return intern(length);
+
+    }
+
+    /**
+     * Read the next token.
+     *
+     * @return The token
+     */
+    public String nextToken() {
+
+        final int length = readToken();
+        return new String(token, 0, length, StandardCharsets.US_ASCII);
+
+    }
+
+    /**
+     * Read the next token as a sequence.
+     * <p>
+     * When the scanner is on a buffer, the sequence is a view on the buffer and nothing is copied.
+     * When reading from a channel the token is packed into a PackedSequence.
+     * </p>
+     *
+     * @return The token
+     */
+    public CharSequence nextSequence() {
+
+        if (channel != null) {
+            final int length = readToken();
+            return PackedSequence.pack(token, 0, length);
+        }
+
+        int c = skipWhitespace();
+        if (c == -1) {
+            throw new InputMismatchException("Expected a token");
+        }
+
+        final int start = buffer.position();
+        while (c != -1 && !isWhitespace(c)) {
+            buffer.get();
+            c = peek();
+        }
+
+        return new MappedSequence(buffer, start, buffer.position() - start);
+
+    }
+
+    /**
+     * Read the next token into the token buffer.
+     *
+     * @return Length of the token
+     */
+    private int readToken() {
+
+        int c = skipWhitespace();
+        if (c == -1) {
+            throw new InputMismatchException("Expected a token");
+        }
+
+        int length = 0;
+        while (c != -1 && !isWhitespace(c)) {
+            length = put(length, buffer.get());
+            c = peek();
+        }
+
+        return length;
+
+    }
+
+    /**
+     * Add a byte to the token buffer.
+     *
+     * @param length Current length of the token
+     * @param b      Byte to add
+     * @return New length of the token
+     */
+    private int put(final int length, final byte b) {
+
+        if (length == token.length) {
+            token = Arrays.copyOf(token, length * 2);
+        }
+        token[length] = b;
+
+        return length + 1;
+
+    }
+
+    /**
+     * Get the interned name of the bytes in the token buffer.
+     *
+     * @param length Length of the name in the token buffer
+     * @return Interned name
+     */
+    private String intern(final int length) {
+
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + token[i];
+        }
+
+        final int mask = nameKeys.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (nameKeys[slot] != null) {
+            final byte[] key = nameKeys[slot];
+            if (key.length == length && equalsToken(key)) {
+                return names[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final String name = new String(token, 0, length, StandardCharsets.UTF_8);
+        nameKeys[slot] = Arrays.copyOf(token, length);
+        names[slot] = name;
+        if (++nameCount * 2 > nameKeys.length) {
+            growNames();
+        }
+
+        return name;
+
+    }
+
+    /**
+     * Check if the bytes are equal to the start of the token buffer.
+     *
+     * @param key Bytes to compare
+     * @return If the bytes are equal
+     */
+    private boolean equalsToken(final byte[] key) {
+
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != token[i]) {
+                return false;
+            }
+        }
+        return true;
+
+    }
+
+    /**
+     * Double the size of the name table.
+     */
+    private void growNames() {
+
+        final byte[][] oldKeys = nameKeys;
+        final String[] oldNames = names;
+        nameKeys = new byte[oldKeys.length * 2][];
+        names = new String[oldKeys.length * 2];
+
+        final int mask = nameKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                final int hash = Arrays.hashCode(oldKeys[i]);
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (nameKeys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                nameKeys[slot] = oldKeys[i];
+                names[slot] = oldNames[i];
+            }
+        }
+
+    }
+
+    /**
+     * Skip all whitespace.
+     *
+     * @return The next character, -1 if the end is reached
+     */
+    private int skipWhitespace() {
+
+        int c = peek();
+        while (isWhitespace(c)) {
+            buffer.get();
+            c = peek();
+        }
+
+        return c;
+
+    }
+
+    /**
+     * Check if a character is whitespace.
+     *
+     * @param c Character to check
+     * @return If the character is whitespace
+     */
+    private static boolean isWhitespace(final int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /**
+     * Get the next byte without consuming it.
+     *
+     * @return The next byte, -1 if the end is reached
+     */
+    private int peek() {
+
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return buffer.get(buffer.position()) & 0xFF;
+
+    }
+
+    /**
+     * Fill the buffer from the channel.
+     *
+     * @return If new bytes are available
+     */
+    private boolean fill() {
+
+        if (channel == null) {
+            return false;
+        }
+
+        try {
+            buffer.clear();
+            int read = 0;
+            while (read == 0) {
+                read = channel.read(buffer);
+            }
+            buffer.flip();
+            return read > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    }
+
+}
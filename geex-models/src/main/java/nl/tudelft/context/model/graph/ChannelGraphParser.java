@@ -0,0 +1,189 @@
+package nl.tudelft.context.model.graph;
+
+import nl.tudelft.context.model.Parser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Graph parser which reads the node and edge file directly from a FileChannel.
+ * <p>
+ * This parser creates the same GraphMap as the GraphParser, but does not use a Scanner.
+ * Sub classes can change how the node and edge file are read.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ChannelGraphParser extends Parser<GraphMap> {
+
+    /**
+     * Node and edge file.
+     */
+    private File nodeFile, edgeFile;
+
+    /**
+     * Set the node and edge file, the files are opened when loading.
+     *
+     * @param files The node and edge file
+     * @return this
+     * @throws FileNotFoundException If one of the files is not found.
+     */
+    @Override
+    public final Parser<GraphMap> setFiles(final File... files) throws FileNotFoundException {
+
+        for (File file : files) {
+            if (!file.isFile()) {
+                throw new FileNotFoundException(file.getPath());
+            }
+        }
+
+        nodeFile = files[0];
+        edgeFile = files[1];
+        setTotalBytes(nodeFile.length() + edgeFile.length());
+
+        return this;
+
+    }
+
+    @Override
+    public final GraphMap load() {
+
+        try (FileChannel nodeChannel = FileChannel.open(nodeFile.toPath(), StandardOpenOption.READ);
+             FileChannel edgeChannel = FileChannel.open(edgeFile.toPath(), StandardOpenOption.READ)) {
+
+            GraphMap graphMap = createGraphMap();
+
+            List<Node> nodeList = parseNodes(nodeChannel, graphMap);
+            parseEdges(edgeChannel, graphMap, nodeList);
+
+            graphMap.filter();
+
+            return graphMap;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    }
+
+    /**
+     * Create the graph map to parse into.
+     *
+     * @return an empty graph map
+     */
+    protected GraphMap createGraphMap() {
+        return new GraphMap();
+    }
+
+    /**
+     * Parse from readers, which can not be read as channel, so the Scanner based parser is used.
+     *
+     * @param reader Node and edge reader
+     * @return Parsed graph map
+     */
+    @Override
+    protected final GraphMap parse(final BufferedReader... reader) {
+        return new GraphParser().parse(reader);
+    }
+
+    /**
+     * Parse the nodes from the node file.
+     *
+     * @param nodeChannel channel of the node file
+     * @param graphMap    graph map to add nodes to
+     * @return nodes added to graph
+     * @throws IOException If the node file could not be read
+     */
+    protected List<Node> parseNodes(final FileChannel nodeChannel, final GraphMap graphMap) throws IOException {
+
+        List<Node> nodes = new ArrayList<>();
+        parseNodes(new ByteScanner(counted(nodeChannel)), graphMap, nodes);
+
+        return nodes;
+
+    }
+
+    /**
+     * Parse the nodes from a scanner.
+     *
+     * @param sc       scanner on (a part of) the node file
+     * @param graphMap graph map to add nodes to
+     * @param nodes    list to add the parsed nodes to
+     */
+    protected final void parseNodes(final ByteScanner sc, final GraphMap graphMap, final List<Node> nodes) {
+
+        NodeParser nodeParser = new NodeParser();
+
+        while (sc.hasNext() && !isCancelled()) {
+            Node n = nodeParser.getNode(sc);
+            nodes.add(n);
+            graphMap.addVertex(n);
+            countRecords(1);
+        }
+
+    }
+
+    /**
+     * Parse the edges from the edge file.
+     *
+     * @param edgeChannel channel of the edge file
+     * @param graphMap    graph map to add edges to
+     * @param nodeList    nodes used to get edges from
+     * @throws IOException If the edge file could not be read
+     */
+    protected void parseEdges(final FileChannel edgeChannel,
+                              final GraphMap graphMap,
+                              final List<Node> nodeList) throws IOException {
+
+        ByteScanner sc = new ByteScanner(counted(edgeChannel));
+
+        while (sc.hasNext() && !isCancelled()) {
+            graphMap.addEdge(nodeList.get(sc.nextInt()), nodeList.get(sc.nextInt()));
+            countRecords(1);
+        }
+
+    }
+
+    /**
+     * Count the bytes read from a channel.
+     *
+     * @param channel Channel to read from
+     * @return Channel which counts the bytes read
+     */
+    private ReadableByteChannel counted(final FileChannel channel) {
+
+        return new ReadableByteChannel() {
+            @Override
+            public int read(final ByteBuffer dst) throws IOException {
+                int read = channel.read(dst);
+                if (read > 0) {
+                    countBytes(read);
+                }
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return channel.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+
+    }
+
+}
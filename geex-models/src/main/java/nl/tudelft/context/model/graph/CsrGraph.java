@@ -0,0 +1,258 @@
+package nl.tudelft.context.model.graph;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read only snapshot of the adjacency of a graph, stored as compressed sparse rows.
+ * <p>
+ * Every node gets an int id in the order of the vertex set. The targets of node i are
+ * stored in targets[targetOffsets[i]] until targets[targetOffsets[i + 1]], with the weights
+ * at the same index in targetWeights. The sources are stored the same way, so incoming
+ * edges can be walked without searching.
+ * </p>
+ * <p>
+ * This is not a backend for {@link StackGraph}: the graph itself stays a JGraphT graph, because
+ * the filters and {@code replace} change the adjacency, which these arrays can not do. The snapshot
+ * is only taken for passes which walk the whole graph without changing it, positioning the columns
+ * and ordering a super bubble, and is dropped afterwards.
+ * </p>
+ *
+ * @param <T> Type of the nodes
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class CsrGraph<T> {
+
+    /**
+     * Nodes by id.
+     */
+    private final Object[] nodes;
+
+    /**
+     * Offsets of the targets of each node, length is the amount of nodes + 1.
+     */
+    private final int[] targetOffsets;
+
+    /**
+     * Ids of the targets.
+     */
+    private final int[] targets;
+
+    /**
+     * Weights of the outgoing edges.
+     */
+    private final double[] targetWeights;
+
+    /**
+     * Offsets of the sources of each node, length is the amount of nodes + 1.
+     */
+    private final int[] sourceOffsets;
+
+    /**
+     * Ids of the sources.
+     */
+    private final int[] sources;
+
+    /**
+     * Weights of the incoming edges.
+     */
+    private final double[] sourceWeights;
+
+    /**
+     * Create a compressed copy of the adjacency of a graph.
+     *
+     * @param graph Graph to copy
+     */
+    public CsrGraph(final DefaultGraph<T> graph) {
+
+        final int size = graph.vertexSet().size();
+        final int edgeCount = graph.edgeSet().size();
+
+        nodes = new Object[size];
+        targetOffsets = new int[size + 1];
+        sourceOffsets = new int[size + 1];
+        targets = new int[edgeCount];
+        targetWeights = new double[edgeCount];
+        sources = new int[edgeCount];
+        sourceWeights = new double[edgeCount];
+
+        final Map<T, Integer> ids = new HashMap<>(size * 2);
+        int id = 0;
+        for (T node : graph.vertexSet()) {
+            nodes[id] = node;
+            ids.put(node, id++);
+        }
+
+        int target = 0;
+        int source = 0;
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            final T node = (T) nodes[i];
+            targetOffsets[i] = target;
+            for (DefaultWeightedEdge edge : graph.outgoingEdgesOf(node)) {
+                targets[target] = ids.get(graph.getEdgeTarget(edge));
+                targetWeights[target++] = graph.getEdgeWeight(edge);
+            }
+            sourceOffsets[i] = source;
+            for (DefaultWeightedEdge edge : graph.incomingEdgesOf(node)) {
+                sources[source] = ids.get(graph.getEdgeSource(edge));
+                sourceWeights[source++] = graph.getEdgeWeight(edge);
+            }
+        }
+        targetOffsets[size] = target;
+        sourceOffsets[size] = source;
+
+    }
+
+    /**
+     * Get the amount of nodes.
+     *
+     * @return amount of nodes
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Get the amount of edges.
+     *
+     * @return amount of edges
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Get the node with an id.
+     *
+     * @param id Id of the node
+     * @return the node
+     */
+    @SuppressWarnings("unchecked")
+    public T nodeOf(final int id) {
+        return (T) nodes[id];
+    }
+
+    /**
+     * Get the index of the first outgoing edge of a node.
+     *
+     * @param id Id of the node
+     * @return index of the first outgoing edge
+     */
+    public int targetStart(final int id) {
+        return targetOffsets[id];
+    }
+
+    /**
+     * Get the index after the last outgoing edge of a node.
+     *
+     * @param id Id of the node
+     * @return index after the last outgoing edge
+     */
+    public int targetEnd(final int id) {
+        return targetOffsets[id + 1];
+    }
+
+    /**
+     * Get the target id of an outgoing edge.
+     *
+     * @param edge Index of the outgoing edge
+     * @return id of the target
+     */
+    public int target(final int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Get the weight of an outgoing edge.
+     *
+     * @param edge Index of the outgoing edge
+     * @return weight of the edge
+     */
+    public double targetWeight(final int edge) {
+        return targetWeights[edge];
+    }
+
+    /**
+     * Get the index of the first incoming edge of a node.
+     *
+     * @param id Id of the node
+     * @return index of the first incoming edge
+     */
+    public int sourceStart(final int id) {
+        return sourceOffsets[id];
+    }
+
+    /**
+     * Get the index after the last incoming edge of a node.
+     *
+     * @param id Id of the node
+     * @return index after the last incoming edge
+     */
+    public int sourceEnd(final int id) {
+        return sourceOffsets[id + 1];
+    }
+
+    /**
+     * Get the source id of an incoming edge.
+     *
+     * @param edge Index of the incoming edge
+     * @return id of the source
+     */
+    public int source(final int edge) {
+        return sources[edge];
+    }
+
+    /**
+     * Get the weight of an incoming edge.
+     *
+     * @param edge Index of the incoming edge
+     * @return weight of the edge
+     */
+    public double sourceWeight(final int edge) {
+        return sourceWeights[edge];
+    }
+
+    /**
+     * Get the amount of outgoing edges of a node.
+     *
+     * @param id Id of the node
+     * @return amount of outgoing edges
+     */
+    public int outDegree(final int id) {
+        return targetOffsets[id + 1] - targetOffsets[id];
+    }
+
+    /**
+     * Get the amount of incoming edges of a node.
+     *
+     * @param id Id of the node
+     * @return amount of incoming edges
+     */
+    public int inDegree(final int id) {
+        return sourceOffsets[id + 1] - sourceOffsets[id];
+    }
+
+    /**
+     * Get the weight of the edge between two nodes.
+     *
+     * @param source Id of the source
+     * @param target Id of the target
+     * @return weight of the edge, NaN if there is no edge
+     */
+    public double getEdgeWeight(final int source, final int target) {
+
+        for (int edge = targetOffsets[source]; edge < targetOffsets[source + 1]; edge++) {
+            if (targets[edge] == target) {
+                return targetWeights[edge];
+            }
+        }
+        return Double.NaN;
+
+    }
+
+}
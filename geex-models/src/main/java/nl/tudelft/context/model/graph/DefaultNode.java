@@ -5,7 +5,6 @@ import nl.tudelft.context.model.annotation.CodingSequenceMap;
 import nl.tudelft.context.model.annotation.Resistance;
 import nl.tudelft.context.model.annotation.ResistanceMap;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -24,12 +23,12 @@ public abstract class DefaultNode {
     /**
      * Set of genomes that contain this Node.
      */
-    Set<String> sources = new HashSet<>();
+    SourceSet sources = SourceSet.EMPTY;
 
     /**
-     * The content of the current Node.
+     * The content of the current Node, a String is only created when the content is requested.
      */
-    String content;
+    CharSequence content;
 
     /**
      * Get the size in nodes of the node.
@@ -53,7 +52,16 @@ public abstract class DefaultNode {
      * @return DNA sequence
      */
     public String getContent() {
-        return content;
+        return content.toString();
+    }
+
+    /**
+     * Get the length of the content, without creating the content.
+     *
+     * @return Length of the content
+     */
+    public int getContentLength() {
+        return getContent().length();
     }
 
     /**
@@ -0,0 +1,100 @@
+package nl.tudelft.context.model.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Split a file into memory mapped chunks which start at the beginning of a record.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class FileChunks {
+
+    /**
+     * Size of the window used when searching for the start of a record.
+     */
+    private static final int WINDOW_SIZE = 1 << 13;
+
+    /**
+     * Utility class, not instantiable.
+     */
+    private FileChunks() {
+
+    }
+
+    /**
+     * Map a file in chunks, every chunk starts at the beginning of a line.
+     *
+     * @param channel     Channel of the file to map
+     * @param chunkSize   Preferred size of a chunk, a chunk is larger if a record is larger
+     * @param recordStart Character a record starts with, 0 if every line is a record
+     * @return Mapped chunks in file order
+     * @throws IOException If the file could not be read or mapped
+     */
+    static List<MappedByteBuffer> map(final FileChannel channel,
+                                      final long chunkSize,
+                                      final char recordStart) throws IOException {
+
+        final List<MappedByteBuffer> chunks = new ArrayList<>();
+        final long size = channel.size();
+
+        long start = 0;
+        while (start < size) {
+            long end = boundary(channel, start + chunkSize, recordStart);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Record too large to map at position " + start);
+            }
+            chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+            start = end;
+        }
+
+        return chunks;
+
+    }
+
+    /**
+     * Find the first record start at or after a position.
+     *
+     * @param channel     Channel of the file
+     * @param position    Position to search from
+     * @param recordStart Character a record starts with, 0 if every line is a record
+     * @return Position of the record start, or the size of the file if there is none
+     * @throws IOException If the file could not be read
+     */
+    private static long boundary(final FileChannel channel,
+                                 final long position,
+                                 final char recordStart) throws IOException {
+
+        final long size = channel.size();
+        final ByteBuffer window = ByteBuffer.allocate(WINDOW_SIZE);
+
+        // The byte before the position must be a newline, so start reading one byte earlier.
+        long offset = position - 1;
+        byte previous = 0;
+        while (offset < size) {
+            window.clear();
+            final int read = channel.read(window, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                final byte current = window.get(i);
+                if (previous == '\n' && (recordStart == 0 || current == recordStart)) {
+                    return offset + i;
+                }
+                previous = current;
+            }
+            offset += read;
+        }
+
+        return size;
+
+    }
+
+}
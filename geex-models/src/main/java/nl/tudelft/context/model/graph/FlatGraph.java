@@ -0,0 +1,83 @@
+package nl.tudelft.context.model.graph;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+/**
+ * Graph flattened from the graphs of a selection of sources.
+ * <p>
+ * The selection is kept, so the graph can be updated when sources are added or removed.
+ * Every edge stores the amount of selected sources using it, the weight of an edge is that amount divided by
+ * the size of the selection. Changing the selection only changes the edges of the changed sources.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class FlatGraph extends Graph {
+
+    /**
+     * Sources which are flattened.
+     */
+    private SourceSet selection;
+
+    /**
+     * Create a flat graph of a selection.
+     *
+     * @param selection Sources which are flattened
+     */
+    public FlatGraph(final SourceSet selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Get the sources which are flattened.
+     *
+     * @return the selection
+     */
+    public final SourceSet getSelection() {
+        return selection;
+    }
+
+    /**
+     * Set the sources which are flattened, used when the graph is updated.
+     *
+     * @param selection the selection
+     */
+    final void setSelection(final SourceSet selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Set the amount of selected sources using an edge.
+     *
+     * @param edge  Edge of this graph
+     * @param count Amount of selected sources using the edge
+     */
+    final void setEdgeCount(final DefaultWeightedEdge edge, final int count) {
+        super.setEdgeWeight(edge, count);
+    }
+
+    /**
+     * Get the part of the selected sources using an edge.
+     *
+     * @param edge Edge of this graph
+     * @return Weight of the edge
+     */
+    @Override
+    public double getEdgeWeight(final DefaultWeightedEdge edge) {
+        return super.getEdgeWeight(edge) / selection.size();
+    }
+
+    /**
+     * Set the part of the selected sources using an edge, which is stored as the amount of sources.
+     *
+     * @param edge   Edge of this graph
+     * @param weight Weight of the edge
+     */
+    @Override
+    public void setEdgeWeight(final DefaultWeightedEdge edge, final double weight) {
+        super.setEdgeWeight(edge, weight * selection.size());
+    }
+
+}
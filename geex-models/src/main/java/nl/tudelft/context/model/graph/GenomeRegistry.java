@@ -0,0 +1,164 @@
+package nl.tudelft.context.model.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry which assigns every genome an index, used as bit in a SourceSet.
+ * <p>
+ * The source sets of nodes and edges are interned by the registry, so nodes with the same genomes share one set.
+ * The interned sets are cleared when the graphs using them are closed.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class GenomeRegistry {
+
+    /**
+     * Initial capacity of the genome table.
+     */
+    private static final int INITIAL_SIZE = 64;
+
+    /**
+     * The registry.
+     */
+    private static final GenomeRegistry INSTANCE = new GenomeRegistry();
+
+    /**
+     * Index of every registered genome.
+     */
+    private final ConcurrentMap<String, Integer> indices = new ConcurrentHashMap<>();
+
+    /**
+     * Genome of every index.
+     */
+    private volatile String[] genomes = new String[INITIAL_SIZE];
+
+    /**
+     * Interned source sets.
+     */
+    private final ConcurrentMap<SourceSet, SourceSet> sourceSets = new ConcurrentHashMap<>();
+
+    /**
+     * Create the registry.
+     */
+    private GenomeRegistry() {
+
+    }
+
+    /**
+     * Get the registry.
+     *
+     * @return The registry
+     */
+    public static GenomeRegistry instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the index of a genome, the genome is registered if it is not registered yet.
+     *
+     * @param genome Name of the genome
+     * @return Index of the genome
+     */
+    public int index(final String genome) {
+
+        Integer index = indices.get(genome);
+        if (index == null) {
+            index = register(genome);
+        }
+
+        return index;
+
+    }
+
+    /**
+     * Get the index of a genome without registering it.
+     *
+     * @param genome Name of the genome
+     * @return Index of the genome, -1 if it is not registered
+     */
+    public int indexOf(final Object genome) {
+
+        if (!(genome instanceof String)) {
+            return -1;
+        }
+
+        Integer index = indices.get(genome);
+        if (index == null) {
+            return -1;
+        }
+        return index;
+
+    }
+
+    /**
+     * Get the genome of an index.
+     *
+     * @param index Index of the genome
+     * @return Name of the genome
+     */
+    public String genome(final int index) {
+        return genomes[index];
+    }
+
+    /**
+     * Get the amount of registered genomes.
+     *
+     * @return Amount of registered genomes
+     */
+    public int size() {
+        return indices.size();
+    }
+
+    /**
+     * Register a genome.
+     *
+     * @param genome Name of the genome
+     * @return Index of the genome
+     */
+    private synchronized int register(final String genome) {
+
+        Integer index = indices.get(genome);
+        if (index != null) {
+            return index;
+        }
+
+        final int size = indices.size();
+        if (size == genomes.length) {
+            genomes = Arrays.copyOf(genomes, size * 2);
+        }
+        genomes[size] = genome;
+        indices.put(genome, size);
+
+        return size;
+
+    }
+
+    /**
+     * Get the shared source set which is equal to a source set.
+     *
+     * @param sourceSet Source set to intern
+     * @return The shared source set
+     */
+    SourceSet intern(final SourceSet sourceSet) {
+
+        SourceSet interned = sourceSets.putIfAbsent(sourceSet, sourceSet);
+        if (interned == null) {
+            return sourceSet;
+        }
+        return interned;
+
+    }
+
+    /**
+     * Forget the interned source sets, the genome indices are kept so existing source sets stay valid.
+     */
+    public void clear() {
+        sourceSets.clear();
+    }
+
+}
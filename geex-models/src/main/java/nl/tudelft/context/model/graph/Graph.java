@@ -1,8 +1,15 @@
 package nl.tudelft.context.model.graph;
 
+import nl.tudelft.context.model.annotation.Annotation;
+import nl.tudelft.context.model.annotation.AnnotationMap;
 import nl.tudelft.context.model.annotation.CodingSequenceMap;
 import nl.tudelft.context.model.annotation.ResistanceMap;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
 /**
  * Graph.
  *
@@ -25,8 +32,7 @@ public class Graph extends StackGraph {
      * @param codingSequenceMap The map with codingSequences to add
      */
     public void setCodingSequence(final CodingSequenceMap codingSequenceMap) {
-        vertexSet().parallelStream()
-                .forEach(node -> node.setCodingSequences(codingSequenceMap));
+        setCodingSequence(vertexSet(), codingSequenceMap);
     }
 
     /**
@@ -35,8 +41,64 @@ public class Graph extends StackGraph {
      * @param resistanceMap The map with resistance mutations to add
      */
     public void setResistance(final ResistanceMap resistanceMap) {
-        vertexSet().parallelStream()
-                .forEach(node -> node.setResistances(resistanceMap));
+        setResistance(vertexSet(), resistanceMap);
+    }
+
+    /**
+     * Sets the codingSequences to nodes, every node is annotated once.
+     *
+     * @param nodes             Nodes to annotate
+     * @param codingSequenceMap The map with codingSequences to add
+     */
+    static void setCodingSequence(final Collection<DefaultNode> nodes, final CodingSequenceMap codingSequenceMap) {
+        annotate(nodes, codingSequenceMap, DefaultNode::setCodingSequences,
+                (node, codingSequences) -> node.codingSequences = codingSequences);
+    }
+
+    /**
+     * Sets the resistance to nodes, every node is annotated once.
+     *
+     * @param nodes         Nodes to annotate
+     * @param resistanceMap The map with resistance mutations to add
+     */
+    static void setResistance(final Collection<DefaultNode> nodes, final ResistanceMap resistanceMap) {
+        annotate(nodes, resistanceMap, DefaultNode::setResistances,
+                (node, resistances) -> node.resistance = resistances);
+    }
+
+    /**
+     * Annotate nodes with one sweep over the annotations, other kinds of nodes annotate themselves.
+     *
+     * @param nodes  Nodes to annotate
+     * @param map    Annotations to add
+     * @param single Annotate a node which is not a plain node
+     * @param assign Set the annotations of a plain node
+     * @param <T>    Type of annotation
+     * @param <M>    Type of annotation map
+     */
+    private static <T extends Annotation, M extends AnnotationMap<T>> void annotate(
+            final Collection<DefaultNode> nodes,
+            final M map,
+            final BiConsumer<DefaultNode, M> single,
+            final BiConsumer<Node, List<T>> assign) {
+
+        final List<Node> plain = new ArrayList<>(nodes.size());
+        nodes.forEach(node -> {
+            if (node instanceof Node) {
+                plain.add((Node) node);
+            } else {
+                single.accept(node, map);
+            }
+        });
+
+        final List<List<T>> annotations = map.annotationsBetween(
+                plain.stream().mapToInt(Node::getRefStartPosition).toArray(),
+                plain.stream().mapToInt(Node::getRefEndPosition).toArray());
+
+        for (int i = 0; i < plain.size(); i++) {
+            assign.accept(plain.get(i), annotations.get(i));
+        }
+
     }
 
 }
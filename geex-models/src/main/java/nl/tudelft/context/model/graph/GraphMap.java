@@ -6,6 +6,7 @@ import org.jgrapht.graph.AbstractBaseGraph;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -19,14 +20,59 @@ import java.util.stream.Collectors;
  */
 public class GraphMap extends ConcurrentHashMap<String, Graph> {
 
+    /**
+     * Graph shared by all sources, null if there is a graph per source.
+     */
+    private final SharedGraph shared;
+
+    /**
+     * Create a graph map with a graph per source.
+     */
+    public GraphMap() {
+        this(null);
+    }
+
+    /**
+     * Create a graph map.
+     *
+     * @param shared Graph shared by all sources, null for a graph per source
+     */
+    private GraphMap(final SharedGraph shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * Create a graph map which stores all sources in one shared graph, where the edges know their sources.
+     * <p>
+     * The map itself stays empty, the graph is available with getSharedGraph.
+     * </p>
+     *
+     * @return graph map with a shared graph
+     */
+    public static GraphMap shared() {
+        return new GraphMap(new SharedGraph());
+    }
+
+    /**
+     * Get the graph shared by all sources.
+     *
+     * @return the shared graph, null if there is a graph per source
+     */
+    public final SharedGraph getSharedGraph() {
+        return shared;
+    }
+
     /**
      * Load the codingSequences for this graph.
      *
      * @param codingSequenceMap All the codingSequences.
      */
     public void setCodingSequence(final CodingSequenceMap codingSequenceMap) {
-        values().parallelStream()
-                .forEach(graph -> graph.setCodingSequence(codingSequenceMap));
+        if (shared != null) {
+            shared.setCodingSequence(codingSequenceMap);
+            return;
+        }
+        Graph.setCodingSequence(uniqueNodes(), codingSequenceMap);
     }
 
     /**
@@ -35,8 +81,24 @@ public class GraphMap extends ConcurrentHashMap<String, Graph> {
      * @param resistanceMap All the resistance mutations.
      */
     public void setResistance(final ResistanceMap resistanceMap) {
-        values().parallelStream()
-                .forEach(graph -> graph.setResistance(resistanceMap));
+        if (shared != null) {
+            shared.setResistance(resistanceMap);
+            return;
+        }
+        Graph.setResistance(uniqueNodes(), resistanceMap);
+    }
+
+    /**
+     * Get the nodes of all graphs, where a node shared by sources is only included once.
+     *
+     * @return Nodes of all graphs
+     */
+    private Set<DefaultNode> uniqueNodes() {
+
+        final Set<DefaultNode> nodes = new HashSet<>();
+        values().forEach(graph -> nodes.addAll(graph.vertexSet()));
+        return nodes;
+
     }
 
     /**
@@ -45,11 +107,13 @@ public class GraphMap extends ConcurrentHashMap<String, Graph> {
      * @param sources Sources to flat
      * @return Flatten graph from sources
      */
-    public final Graph flat(final Set<String> sources) {
+    public final FlatGraph flat(final Set<String> sources) {
 
-        final double strains = sources.size();
+        if (shared != null) {
+            return shared.flat(sources);
+        }
 
-        Graph graph = new Graph();
+        FlatGraph graph = new FlatGraph(SourceSet.of(sources));
         List<Graph> graphs = getGraphList(sources);
 
         graphs.stream()
@@ -71,12 +135,34 @@ public class GraphMap extends ConcurrentHashMap<String, Graph> {
                         Collectors.counting()
                 ))
                 .forEach((nodes, count) ->
-                        graph.setEdgeWeight(graph.addEdge(nodes.get(0), nodes.get(1)), count / strains));
+                        graph.setEdgeCount(graph.addEdge(nodes.get(0), nodes.get(1)), count.intValue()));
 
         return graph;
 
     }
 
+    /**
+     * Update a flattened graph for added and removed sources.
+     * <p>
+     * With a shared graph only the changed sources are visited and the previous graph is updated,
+     * otherwise the new selection is flattened again.
+     * </p>
+     *
+     * @param previous Graph flattened from this graph map
+     * @param added    Sources to add to the selection
+     * @param removed  Sources to remove from the selection
+     * @return Flatten graph from the new selection
+     */
+    public final FlatGraph flat(final FlatGraph previous, final Set<String> added, final Set<String> removed) {
+
+        if (shared != null) {
+            return shared.flat(previous, added, removed);
+        }
+
+        return flat(previous.getSelection().union(SourceSet.of(added)).difference(SourceSet.of(removed)));
+
+    }
+
     /**
      * Get the graph list by sources.
      *
@@ -116,8 +202,12 @@ public class GraphMap extends ConcurrentHashMap<String, Graph> {
      */
     public final void addVertex(final Node node) {
 
+        if (shared != null) {
+            shared.addVertex(node);
+            return;
+        }
+
         node.getSources().stream()
-                .filter(s -> node.getSources().contains(s))
                 .map(this::getGraph)
                 .forEach(graph -> graph.addVertex(node));
 
@@ -131,18 +221,45 @@ public class GraphMap extends ConcurrentHashMap<String, Graph> {
      */
     public final void addEdge(final Node source, final Node target) {
 
-        source.getSources().stream()
-                .filter(s -> source.getSources().contains(s) && target.getSources().contains(s))
+        if (shared != null) {
+            shared.addEdge(source, target,
+                    SourceSet.of(source.getSources()).intersect(SourceSet.of(target.getSources())));
+            return;
+        }
+
+        SourceSet.of(source.getSources()).intersect(SourceSet.of(target.getSources())).stream()
                 .map(this::getGraph)
                 .forEach(graph -> graph.addEdge(source, target));
 
     }
 
+    /**
+     * Add an edge to a set of sources.
+     *
+     * @param from    Source node
+     * @param to      Target node
+     * @param sources Sources of the edge
+     */
+    public final void addEdge(final DefaultNode from, final DefaultNode to, final SourceSet sources) {
+
+        if (shared != null) {
+            shared.addEdge(from, to, sources);
+        } else {
+            sources.forEach(source -> getGraph(source).addEdge(from, to));
+        }
+
+    }
+
     /**
      * Filter all skipping edges in single strains.
      */
     public void filter() {
 
+        if (shared != null) {
+            shared.filter();
+            return;
+        }
+
         values().parallelStream().forEach(graph -> {
 
             List<DefaultNode> current = new LinkedList<>(graph.getFirstNodes());
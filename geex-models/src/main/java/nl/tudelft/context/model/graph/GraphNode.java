@@ -4,14 +4,16 @@ import nl.tudelft.context.model.annotation.CodingSequence;
 import nl.tudelft.context.model.annotation.CodingSequenceMap;
 import nl.tudelft.context.model.annotation.Resistance;
 import nl.tudelft.context.model.annotation.ResistanceMap;
+import org.jgrapht.graph.DefaultWeightedEdge;
 
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * @author René Vennik
@@ -45,6 +47,16 @@ public class GraphNode extends DefaultNode {
      */
     BaseCounter baseCounter = new BaseCounter();
 
+    /**
+     * Coding sequences of the nodes in the sub graph, collected when a node is added.
+     */
+    List<CodingSequence> codingSequences = Collections.emptyList();
+
+    /**
+     * Resistance mutations of the nodes in the sub graph, collected when a node is added.
+     */
+    List<Resistance> resistances = Collections.emptyList();
+
     /**
      * Create a graph node.
      *
@@ -58,26 +70,7 @@ public class GraphNode extends DefaultNode {
         this.parentGraph = parentGraph;
         this.type = type;
 
-        sources.addAll(start.getSources());
-
-        Queue<DefaultNode> queue = new LinkedList<>();
-        queue.add(start);
-        nodes.add(start);
-
-        while (!queue.isEmpty()) {
-
-            DefaultNode node = queue.remove();
-
-            parentGraph.getTargets(node).stream()
-                    .filter(n -> !nodes.contains(n) && !n.equals(end))
-                    .forEach(n -> {
-                        queue.add(n);
-                        nodes.add(n);
-                    });
-
-        }
-
-        calculateProperties();
+        collect(start, end);
 
     }
 
@@ -98,20 +91,89 @@ public class GraphNode extends DefaultNode {
     }
 
     /**
-     * Calculate the node properties: base counter, reference positions.
+     * Collect the nodes from start until end and their properties in a single pass.
+     * <p>
+     * The nodes are visited depth first with an array backed stack and the edges of the parent graph
+     * are walked directly, so no list is created per node. The member set is also the visited set.
+     * </p>
+     *
+     * @param start Start of sub graph
+     * @param end   End of sub graph, not part of the sub graph
      */
-    private void calculateProperties() {
+    private void collect(final DefaultNode start, final DefaultNode end) {
+
+        final SourceSet.Builder sourceSet = new SourceSet.Builder();
+        final Set<CodingSequence> codingSequenceSet = new LinkedHashSet<>();
+        final Set<Resistance> resistanceSet = new LinkedHashSet<>();
+        final Deque<DefaultNode> stack = new ArrayDeque<>();
+
+        refStart = start.getRefStartPosition();
+        refEnd = start.getRefEndPosition();
+
+        nodes.add(start);
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+
+            final DefaultNode node = stack.pop();
 
-        nodes.stream()
-                .map(DefaultNode::getBaseCounter)
-                .forEach(baseCounter::addBaseCounter);
+            baseCounter.addBaseCounter(node.getBaseCounter());
+            sourceSet.addAll(SourceSet.of(node.getSources()));
+            refStart = Math.min(refStart, node.getRefStartPosition());
+            refEnd = Math.max(refEnd, node.getRefEndPosition());
+            codingSequenceSet.addAll(node.getCodingSequences());
+            resistanceSet.addAll(node.getResistances());
 
-        nodes.stream()
-                .map(DefaultNode::getSources)
-                .forEach(sources::addAll);
+            for (DefaultWeightedEdge edge : parentGraph.outgoingEdgesOf(node)) {
+                final DefaultNode target = parentGraph.getEdgeTarget(edge);
+                if (!target.equals(end) && nodes.add(target)) {
+                    stack.push(target);
+                }
+            }
 
-        refStart = nodes.stream().mapToInt(DefaultNode::getRefStartPosition).min().getAsInt();
-        refEnd = nodes.stream().mapToInt(DefaultNode::getRefEndPosition).max().getAsInt();
+        }
+
+        sources = sourceSet.build();
+        codingSequences = toList(codingSequenceSet);
+        resistances = toList(resistanceSet);
+
+    }
+
+    /**
+     * Merge annotations into annotations, without duplicates.
+     *
+     * @param annotations Annotations collected so far
+     * @param added       Annotations to add
+     * @param <T>         Type of the annotations
+     * @return The merged annotations, the same list if nothing is added
+     */
+    private static <T> List<T> merge(final List<T> annotations, final List<T> added) {
+
+        if (added.isEmpty()) {
+            return annotations;
+        }
+
+        final Set<T> merged = new LinkedHashSet<>(annotations);
+        if (!merged.addAll(added)) {
+            return annotations;
+        }
+        return toList(merged);
+
+    }
+
+    /**
+     * Store annotations in a list of the exact size.
+     *
+     * @param annotations Annotations to store
+     * @param <T>         Type of the annotations
+     * @return Unmodifiable list with the annotations
+     */
+    private static <T> List<T> toList(final Set<T> annotations) {
+
+        if (annotations.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(annotations));
 
     }
 
@@ -155,10 +217,12 @@ public class GraphNode extends DefaultNode {
      */
     public void addNode(final DefaultNode node) {
         nodes.add(node);
-        sources.addAll(node.getSources());
+        sources = sources.union(SourceSet.of(node.getSources()));
         baseCounter.addBaseCounter(node.getBaseCounter());
         refStart = Math.min(refStart, node.getRefStartPosition());
         refEnd = Math.max(refEnd, node.getRefStartPosition());
+        codingSequences = merge(codingSequences, node.getCodingSequences());
+        resistances = merge(resistances, node.getResistances());
     }
 
     /**
@@ -182,11 +246,7 @@ public class GraphNode extends DefaultNode {
 
     @Override
     public List<CodingSequence> getCodingSequences() {
-        return nodes.stream()
-                .map(DefaultNode::getCodingSequences)
-                .flatMap(Collection::stream)
-                .distinct()
-                .collect(Collectors.toList());
+        return codingSequences;
     }
 
     @Override
@@ -196,11 +256,7 @@ public class GraphNode extends DefaultNode {
 
     @Override
     public List<Resistance> getResistances() {
-        return nodes.stream()
-                .map(DefaultNode::getResistances)
-                .flatMap(Collection::stream)
-                .distinct()
-                .collect(Collectors.toList());
+        return resistances;
     }
 
     @Override
@@ -47,6 +47,7 @@ public final class GraphParser extends Parser<GraphMap> {
             Node n = nodeParser.getNode(sc);
             nodes.add(n);
             graphMap.addVertex(n);
+            countRecords(1);
         }
 
         sc.close();
@@ -67,6 +68,7 @@ public final class GraphParser extends Parser<GraphMap> {
 
         while (sc.hasNext() && !isCancelled()) {
             graphMap.addEdge(nodeList.get(sc.nextInt()), nodeList.get(sc.nextInt()));
+            countRecords(1);
         }
 
         sc.close();
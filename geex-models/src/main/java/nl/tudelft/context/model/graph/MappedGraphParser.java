@@ -0,0 +1,40 @@
+package nl.tudelft.context.model.graph;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Graph parser which memory maps the node file.
+ * <p>
+ * The content of the nodes is not copied to the heap, every node refers to its part of the mapped file.
+ * The heap use is therefore bound by the topology of the graph and not by the size of the genomes.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class MappedGraphParser extends ChannelGraphParser {
+
+    /**
+     * Maximum size of a mapped part of the node file.
+     */
+    private static final long CHUNK_SIZE = 1L << 30;
+
+    @Override
+    protected List<Node> parseNodes(final FileChannel nodeChannel, final GraphMap graphMap) throws IOException {
+
+        List<Node> nodes = new ArrayList<>();
+        for (MappedByteBuffer chunk : FileChunks.map(nodeChannel, CHUNK_SIZE, '>')) {
+            parseNodes(new ByteScanner(chunk), graphMap, nodes);
+            countBytes(chunk.limit());
+        }
+
+        return nodes;
+
+    }
+
+}
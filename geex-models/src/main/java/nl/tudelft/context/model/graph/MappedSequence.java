@@ -0,0 +1,86 @@
+package nl.tudelft.context.model.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sequence of bases which is stored in a (memory mapped) buffer.
+ * <p>
+ * The bases are only decoded when they are requested, so the sequence takes no heap space
+ * besides this object.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class MappedSequence implements CharSequence {
+
+    /**
+     * Buffer containing the sequence, only absolute reads are used.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Offset of the sequence in the buffer.
+     */
+    private final int offset;
+
+    /**
+     * Length of the sequence.
+     */
+    private final int length;
+
+    /**
+     * Create a sequence on a part of a buffer.
+     *
+     * @param buffer Buffer containing the sequence
+     * @param offset Offset of the sequence in the buffer
+     * @param length Length of the sequence
+     */
+    public MappedSequence(final ByteBuffer buffer, final int offset, final int length) {
+
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(start + ", " + end);
+        }
+        return new MappedSequence(buffer, offset + start, end - start);
+
+    }
+
+    @Override
+    public String toString() {
+
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+
+        return new String(bytes, StandardCharsets.US_ASCII);
+
+    }
+
+}
@@ -51,16 +51,16 @@ public class Node extends DefaultNode {
      * @param refStartPosition start position in reference genome
      * @param sources          genomes that contain this node
      * @param refEndPosition   end position in reference genome
-     * @param content          DNA sequence
+     * @param content          DNA sequence, packed or mapped so it is not stored as a String
      */
     public Node(final int id,
                 final Set<String> sources,
                 final int refStartPosition,
                 final int refEndPosition,
-                final String content) {
+                final CharSequence content) {
 
         this.id = id;
-        this.sources = sources;
+        this.sources = SourceSet.of(sources).intern();
         this.refStartPosition = refStartPosition;
         this.refEndPosition = refEndPosition;
         this.content = content;
@@ -81,6 +81,11 @@ public class Node extends DefaultNode {
         return 1;
     }
 
+    @Override
+    public int getContentLength() {
+        return content.length();
+    }
+
     @Override
     public Set<String> getSources() {
         return sources;
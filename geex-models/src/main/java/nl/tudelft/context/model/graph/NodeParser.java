@@ -1,7 +1,6 @@
 package nl.tudelft.context.model.graph;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Scanner;
 import java.util.Set;
 
@@ -12,6 +11,11 @@ import java.util.Set;
  */
 public final class NodeParser {
 
+    /**
+     * Builder for the sources of a node, reused for every node.
+     */
+    private final SourceSet.Builder sourceBuilder = new SourceSet.Builder();
+
     /**
      * Parses the node id from the scanner.
      *
@@ -34,15 +38,53 @@ public final class NodeParser {
 
         final int id = getNodeId(sc);
         sc.next(); // Skip pipe
-        final Set<String> sources = new HashSet<>(Arrays.asList(sc.next().split(",")));
+        final Set<String> sources = SourceSet.of(Arrays.asList(sc.next().split(",")));
         sc.next(); // Skip pipe
         final int refStartPosition = sc.nextInt();
         sc.next(); // Skip pipe
         final int refEndPosition = sc.nextInt();
-        String content = sc.next();
+        final CharSequence content = PackedSequence.pack(sc.next());
 
         return new Node(id, sources, refStartPosition, refEndPosition, content);
 
     }
 
+    /**
+     * Parses the node from the byte scanner.
+     *
+     * @param sc byte scanner
+     * @return node
+     */
+    public Node getNode(final ByteScanner sc) {
+
+        sc.skip('>');
+        final int id = sc.nextInt();
+        sc.skip('|');
+        final Set<String> sources = getSources(sc);
+        sc.skip('|');
+        final int refStartPosition = sc.nextInt();
+        sc.skip('|');
+        final int refEndPosition = sc.nextInt();
+        CharSequence content = sc.nextSequence();
+
+        return new Node(id, sources, refStartPosition, refEndPosition, content);
+
+    }
+
+    /**
+     * Parses the comma separated sources from the byte scanner.
+     *
+     * @param sc byte scanner
+     * @return sources
+     */
+    private SourceSet getSources(final ByteScanner sc) {
+
+        do {
+            sourceBuilder.add(sc.nextName());
+        } while (sc.skipIf(','));
+
+        return sourceBuilder.build();
+
+    }
+
 }
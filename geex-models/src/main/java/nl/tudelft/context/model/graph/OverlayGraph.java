@@ -0,0 +1,467 @@
+package nl.tudelft.context.model.graph;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Graph which shares the nodes and edges of a parent graph and only records the changes made to it.
+ * <p>
+ * Removed parent nodes and edges are hidden, changed weights of parent edges are kept aside and
+ * added nodes and edges are stored in a graph of their own. The parent is never changed, so it
+ * must not be changed while this graph is used.
+ * </p>
+ * <p>
+ * The incoming and outgoing edges of a node are cached once they are read, a node without changes shares the
+ * edges of the parent. A change only drops the cached edges of the nodes it touches, so reading the edges
+ * does not walk the parents again for every read.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class OverlayGraph extends StackGraph {
+
+    /**
+     * Graph which is shared.
+     */
+    private final StackGraph parent;
+
+    /**
+     * Parent nodes which are removed.
+     */
+    private final Set<DefaultNode> removedVertices = new HashSet<>();
+
+    /**
+     * Parent edges which are removed.
+     */
+    private final Set<DefaultWeightedEdge> removedEdges = new HashSet<>();
+
+    /**
+     * Changed weights of parent edges.
+     */
+    private final Map<DefaultWeightedEdge, Double> weights = new HashMap<>();
+
+    /**
+     * Nodes which are not in the parent.
+     */
+    private final Set<DefaultNode> addedVertices = new LinkedHashSet<>();
+
+    /**
+     * Added edges, with the nodes they connect.
+     */
+    private final Graph local = new Graph();
+
+    /**
+     * Cached outgoing edges by node.
+     */
+    private final Map<DefaultNode, Set<DefaultWeightedEdge>> outgoing = new ConcurrentHashMap<>();
+
+    /**
+     * Cached incoming edges by node.
+     */
+    private final Map<DefaultNode, Set<DefaultWeightedEdge>> incoming = new ConcurrentHashMap<>();
+
+    /**
+     * Create a graph on top of a parent graph.
+     *
+     * @param parent Graph to share
+     */
+    public OverlayGraph(final StackGraph parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Check if a parent edge is visible in this graph.
+     *
+     * @param edge Edge to check
+     * @return If the edge is a parent edge which is not removed
+     */
+    private boolean isParentEdge(final DefaultWeightedEdge edge) {
+        return !removedEdges.contains(edge) && parent.containsEdge(edge);
+    }
+
+    /**
+     * Get the edges of a node, of the parent without the removed edges and the local edges.
+     * <p>
+     * The edges of the parent are shared if none of them is removed and there are no local edges.
+     * </p>
+     *
+     * @param node        Node to get the edges of
+     * @param parentEdges Function which gets the parent edges of the node
+     * @param localEdges  Function which gets the local edges of the node
+     * @return The edges of the node
+     */
+    private Set<DefaultWeightedEdge> edges(final DefaultNode node,
+                                           final Function<DefaultNode, Set<DefaultWeightedEdge>> parentEdges,
+                                           final Function<DefaultNode, Set<DefaultWeightedEdge>> localEdges) {
+
+        Set<DefaultWeightedEdge> shared = Collections.emptySet();
+        if (parent.containsVertex(node)) {
+            shared = parentEdges.apply(node);
+        }
+        Set<DefaultWeightedEdge> added = Collections.emptySet();
+        if (local.containsVertex(node)) {
+            added = localEdges.apply(node);
+        }
+
+        if (added.isEmpty() && shared.stream().noneMatch(removedEdges::contains)) {
+            return shared;
+        }
+
+        final Set<DefaultWeightedEdge> edges = new LinkedHashSet<>();
+        shared.stream()
+                .filter(edge -> !removedEdges.contains(edge))
+                .forEach(edges::add);
+        edges.addAll(added);
+        return Collections.unmodifiableSet(edges);
+
+    }
+
+    /**
+     * Drop the cached edges of the nodes an edge connects.
+     *
+     * @param source Source of the edge
+     * @param target Target of the edge
+     */
+    private void changed(final DefaultNode source, final DefaultNode target) {
+
+        outgoing.remove(source);
+        incoming.remove(target);
+
+    }
+
+    /**
+     * Check that a node is in this graph.
+     *
+     * @param node Node to check
+     */
+    private void assertContains(final DefaultNode node) {
+
+        if (!containsVertex(node)) {
+            throw new IllegalArgumentException("no such vertex in graph: " + node);
+        }
+
+    }
+
+    @Override
+    public boolean containsVertex(final DefaultNode node) {
+        return addedVertices.contains(node) || !removedVertices.contains(node) && parent.containsVertex(node);
+    }
+
+    @Override
+    public boolean containsEdge(final DefaultWeightedEdge edge) {
+        return local.containsEdge(edge) || isParentEdge(edge);
+    }
+
+    @Override
+    public Set<DefaultNode> vertexSet() {
+
+        return new AbstractSet<DefaultNode>() {
+
+            @Override
+            public Iterator<DefaultNode> iterator() {
+                return Stream.concat(
+                        parent.vertexSet().stream().filter(node -> !removedVertices.contains(node)),
+                        addedVertices.stream()
+                ).iterator();
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof DefaultNode && containsVertex((DefaultNode) o);
+            }
+
+            @Override
+            public int size() {
+                return parent.vertexSet().size() - removedVertices.size() + addedVertices.size();
+            }
+
+        };
+
+    }
+
+    @Override
+    public Set<DefaultWeightedEdge> edgeSet() {
+
+        return new AbstractSet<DefaultWeightedEdge>() {
+
+            @Override
+            public Iterator<DefaultWeightedEdge> iterator() {
+                return Stream.concat(
+                        parent.edgeSet().stream().filter(edge -> !removedEdges.contains(edge)),
+                        local.edgeSet().stream()
+                ).iterator();
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof DefaultWeightedEdge && containsEdge((DefaultWeightedEdge) o);
+            }
+
+            @Override
+            public int size() {
+                return parent.edgeSet().size() - removedEdges.size() + local.edgeSet().size();
+            }
+
+        };
+
+    }
+
+    @Override
+    public boolean addVertex(final DefaultNode node) {
+
+        if (node == null) {
+            throw new NullPointerException();
+        }
+        if (containsVertex(node)) {
+            return false;
+        }
+        if (!removedVertices.remove(node)) {
+            addedVertices.add(node);
+        }
+        outgoing.remove(node);
+        incoming.remove(node);
+        return true;
+
+    }
+
+    @Override
+    public boolean removeVertex(final DefaultNode node) {
+
+        if (!containsVertex(node)) {
+            return false;
+        }
+
+        final Set<DefaultWeightedEdge> edges = edgesOf(node);
+        edges.forEach(edge -> changed(getEdgeSource(edge), getEdgeTarget(edge)));
+
+        if (!addedVertices.remove(node)) {
+            edges.stream()
+                    .filter(edge -> !local.containsEdge(edge))
+                    .forEach(edge -> {
+                        removedEdges.add(edge);
+                        weights.remove(edge);
+                    });
+            removedVertices.add(node);
+        }
+        local.removeVertex(node);
+        outgoing.remove(node);
+        incoming.remove(node);
+
+        return true;
+
+    }
+
+    @Override
+    public DefaultWeightedEdge getEdge(final DefaultNode source, final DefaultNode target) {
+
+        if (!containsVertex(source) || !containsVertex(target)) {
+            return null;
+        }
+
+        final DefaultWeightedEdge edge = local.getEdge(source, target);
+        if (edge != null) {
+            return edge;
+        }
+
+        final DefaultWeightedEdge parentEdge = parent.getEdge(source, target);
+        if (parentEdge != null && !removedEdges.contains(parentEdge)) {
+            return parentEdge;
+        }
+        return null;
+
+    }
+
+    @Override
+    public Set<DefaultWeightedEdge> getAllEdges(final DefaultNode source, final DefaultNode target) {
+
+        if (!containsVertex(source) || !containsVertex(target)) {
+            return null;
+        }
+
+        final DefaultWeightedEdge edge = getEdge(source, target);
+        if (edge == null) {
+            return Collections.emptySet();
+        }
+        return Collections.singleton(edge);
+
+    }
+
+    @Override
+    public DefaultWeightedEdge addEdge(final DefaultNode source, final DefaultNode target) {
+
+        assertContains(source);
+        assertContains(target);
+
+        if (getEdge(source, target) != null) {
+            return null;
+        }
+
+        local.addVertex(source);
+        local.addVertex(target);
+        changed(source, target);
+        return local.addEdge(source, target);
+
+    }
+
+    /**
+     * Add an edge object between two nodes.
+     * <p>
+     * A removed parent edge between the same nodes is shown again, an other parent edge can not be added.
+     * </p>
+     *
+     * @param source Source of the edge
+     * @param target Target of the edge
+     * @param edge   Edge to add
+     * @return If the edge is added
+     */
+    @Override
+    public boolean addEdge(final DefaultNode source, final DefaultNode target, final DefaultWeightedEdge edge) {
+
+        if (edge == null) {
+            throw new NullPointerException();
+        }
+        assertContains(source);
+        assertContains(target);
+
+        if (containsEdge(edge) || getEdge(source, target) != null) {
+            return false;
+        }
+
+        changed(source, target);
+        if (parent.containsEdge(edge)) {
+            return source.equals(parent.getEdgeSource(edge))
+                    && target.equals(parent.getEdgeTarget(edge))
+                    && removedEdges.remove(edge);
+        }
+
+        local.addVertex(source);
+        local.addVertex(target);
+        return local.addEdge(source, target, edge);
+
+    }
+
+    @Override
+    public boolean removeEdge(final DefaultWeightedEdge edge) {
+
+        if (local.containsEdge(edge)) {
+            changed(local.getEdgeSource(edge), local.getEdgeTarget(edge));
+            return local.removeEdge(edge);
+        }
+        if (isParentEdge(edge)) {
+            changed(parent.getEdgeSource(edge), parent.getEdgeTarget(edge));
+            removedEdges.add(edge);
+            weights.remove(edge);
+            return true;
+        }
+        return false;
+
+    }
+
+    @Override
+    public DefaultWeightedEdge removeEdge(final DefaultNode source, final DefaultNode target) {
+
+        final DefaultWeightedEdge edge = getEdge(source, target);
+        if (edge != null) {
+            removeEdge(edge);
+        }
+        return edge;
+
+    }
+
+    @Override
+    public DefaultNode getEdgeSource(final DefaultWeightedEdge edge) {
+
+        if (local.containsEdge(edge)) {
+            return local.getEdgeSource(edge);
+        }
+        return parent.getEdgeSource(edge);
+
+    }
+
+    @Override
+    public DefaultNode getEdgeTarget(final DefaultWeightedEdge edge) {
+
+        if (local.containsEdge(edge)) {
+            return local.getEdgeTarget(edge);
+        }
+        return parent.getEdgeTarget(edge);
+
+    }
+
+    @Override
+    public double getEdgeWeight(final DefaultWeightedEdge edge) {
+
+        if (local.containsEdge(edge)) {
+            return local.getEdgeWeight(edge);
+        }
+
+        final Double weight = weights.get(edge);
+        if (weight == null) {
+            return parent.getEdgeWeight(edge);
+        }
+        return weight;
+
+    }
+
+    @Override
+    public void setEdgeWeight(final DefaultWeightedEdge edge, final double weight) {
+
+        if (local.containsEdge(edge)) {
+            local.setEdgeWeight(edge, weight);
+        } else if (isParentEdge(edge)) {
+            weights.put(edge, weight);
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + edge);
+        }
+
+    }
+
+    @Override
+    public Set<DefaultWeightedEdge> outgoingEdgesOf(final DefaultNode node) {
+
+        assertContains(node);
+        return outgoing.computeIfAbsent(node, key -> edges(key, parent::outgoingEdgesOf, local::outgoingEdgesOf));
+
+    }
+
+    @Override
+    public Set<DefaultWeightedEdge> incomingEdgesOf(final DefaultNode node) {
+
+        assertContains(node);
+        return incoming.computeIfAbsent(node, key -> edges(key, parent::incomingEdgesOf, local::incomingEdgesOf));
+
+    }
+
+    @Override
+    public Set<DefaultWeightedEdge> edgesOf(final DefaultNode node) {
+
+        final Set<DefaultWeightedEdge> edges = new LinkedHashSet<>(incomingEdgesOf(node));
+        edges.addAll(outgoingEdgesOf(node));
+        return Collections.unmodifiableSet(edges);
+
+    }
+
+    @Override
+    public int outDegreeOf(final DefaultNode node) {
+        return outgoingEdgesOf(node).size();
+    }
+
+    @Override
+    public int inDegreeOf(final DefaultNode node) {
+        return incomingEdgesOf(node).size();
+    }
+
+}
@@ -0,0 +1,275 @@
+package nl.tudelft.context.model.graph;
+
+import java.util.Arrays;
+
+/**
+ * Sequence of bases which stores A, C, G and T in 2 bits.
+ * <p>
+ * Other characters, like N and the other IUPAC codes, are stored as runs in a sparse side table.
+ * The sequence is only decoded to a String when it is requested.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class PackedSequence implements CharSequence {
+
+    /**
+     * Bits used per base.
+     */
+    private static final int BITS = 2;
+
+    /**
+     * Bases stored in a long.
+     */
+    private static final int BASES_PER_WORD = Long.SIZE / BITS;
+
+    /**
+     * Mask of a single base.
+     */
+    private static final long MASK = (1 << BITS) - 1;
+
+    /**
+     * Bases which are stored in 2 bits, in order of their code.
+     */
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    /**
+     * Initial size of the run table.
+     */
+    private static final int INITIAL_RUNS = 4;
+
+    /**
+     * Length of the sequence.
+     */
+    private final int length;
+
+    /**
+     * The packed bases.
+     */
+    private final long[] words;
+
+    /**
+     * Start of every run of other characters, in ascending order.
+     */
+    private int[] runStarts;
+
+    /**
+     * Length of every run of other characters.
+     */
+    private int[] runLengths;
+
+    /**
+     * Character of every run of other characters.
+     */
+    private char[] runChars;
+
+    /**
+     * Amount of runs of other characters.
+     */
+    private int runs = 0;
+
+    /**
+     * Create an empty packed sequence.
+     *
+     * @param length Length of the sequence
+     */
+    private PackedSequence(final int length) {
+
+        this.length = length;
+        this.words = new long[(length + BASES_PER_WORD - 1) / BASES_PER_WORD];
+
+    }
+
+    /**
+     * Pack a sequence.
+     *
+     * @param bases Sequence to pack
+     * @return The packed sequence
+     */
+    public static PackedSequence pack(final CharSequence bases) {
+
+        final PackedSequence sequence = new PackedSequence(bases.length());
+        for (int i = 0; i < sequence.length; i++) {
+            sequence.set(i, bases.charAt(i));
+        }
+        sequence.trim();
+
+        return sequence;
+
+    }
+
+    /**
+     * Pack a sequence of ASCII bytes.
+     *
+     * @param bases  Bytes containing the sequence
+     * @param offset Offset of the sequence
+     * @param length Length of the sequence
+     * @return The packed sequence
+     */
+    public static PackedSequence pack(final byte[] bases, final int offset, final int length) {
+
+        final PackedSequence sequence = new PackedSequence(length);
+        for (int i = 0; i < length; i++) {
+            sequence.set(i, (char) (bases[offset + i] & 0xFF));
+        }
+        sequence.trim();
+
+        return sequence;
+
+    }
+
+    /**
+     * Set a base, bases must be set in ascending order.
+     *
+     * @param index Index of the base
+     * @param c     The base
+     */
+    private void set(final int index, final char c) {
+
+        final int code = encode(c);
+        if (code >= 0) {
+            words[index / BASES_PER_WORD] |= (long) code << (index % BASES_PER_WORD * BITS);
+        } else if (runs > 0 && runChars[runs - 1] == c && runStarts[runs - 1] + runLengths[runs - 1] == index) {
+            runLengths[runs - 1]++;
+        } else {
+            if (runStarts == null) {
+                runStarts = new int[INITIAL_RUNS];
+                runLengths = new int[INITIAL_RUNS];
+                runChars = new char[INITIAL_RUNS];
+            } else if (runs == runStarts.length) {
+                runStarts = Arrays.copyOf(runStarts, runs * 2);
+                runLengths = Arrays.copyOf(runLengths, runs * 2);
+                runChars = Arrays.copyOf(runChars, runs * 2);
+            }
+            runStarts[runs] = index;
+            runLengths[runs] = 1;
+            runChars[runs] = c;
+            runs++;
+        }
+
+    }
+
+    /**
+     * Shrink the run table to its size.
+     */
+    private void trim() {
+
+        if (runStarts != null && runs < runStarts.length) {
+            runStarts = Arrays.copyOf(runStarts, runs);
+            runLengths = Arrays.copyOf(runLengths, runs);
+            runChars = Arrays.copyOf(runChars, runs);
+        }
+
+    }
+
+    /**
+     * Get the 2 bit code of a base.
+     *
+     * @param c The base
+     * @return Code of the base, -1 if the base is stored in the side table
+     */
+    private static int encode(final char c) {
+
+        switch (c) {
+            case 'A':
+                return 0;
+            case 'C':
+                return 1;
+            case 'G':
+                return 2;
+            case 'T':
+                return 3;
+            default:
+                return -1;
+        }
+
+    }
+
+    /**
+     * Get the run containing an index.
+     *
+     * @param index Index in the sequence
+     * @return Index of the run, -1 if the index is not in a run
+     */
+    private int run(final int index) {
+
+        if (runs == 0) {
+            return -1;
+        }
+
+        int run = Arrays.binarySearch(runStarts, 0, runs, index);
+        if (run < 0) {
+            run = -run - 2;
+        }
+        if (run >= 0 && index < runStarts[run] + runLengths[run]) {
+            return run;
+        }
+        return -1;
+
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+
+        final int run = run(index);
+        if (run >= 0) {
+            return runChars[run];
+        }
+        return base(index);
+
+    }
+
+    /**
+     * Get a base from the packed words.
+     *
+     * @param index Index of the base
+     * @return The base
+     */
+    private char base(final int index) {
+        return BASES[(int) (words[index / BASES_PER_WORD] >>> (index % BASES_PER_WORD * BITS) & MASK)];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(start + ", " + end);
+        }
+
+        final PackedSequence sequence = new PackedSequence(end - start);
+        for (int i = 0; i < sequence.length; i++) {
+            sequence.set(i, charAt(start + i));
+        }
+        sequence.trim();
+
+        return sequence;
+
+    }
+
+    @Override
+    public String toString() {
+
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = base(i);
+        }
+        for (int run = 0; run < runs; run++) {
+            Arrays.fill(chars, runStarts[run], runStarts[run] + runLengths[run], runChars[run]);
+        }
+
+        return new String(chars);
+
+    }
+
+}
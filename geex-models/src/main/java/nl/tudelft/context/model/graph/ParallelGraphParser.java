@@ -0,0 +1,184 @@
+package nl.tudelft.context.model.graph;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Graph parser which parses the node and edge file in parallel.
+ * <p>
+ * Both files are split in chunks which start at a record, the node file at a '&gt;' and the edge file at a line.
+ * The chunks are parsed on a ForkJoinPool, after which the results are added to the graph map in file order.
+ * All nodes are parsed before the edges are resolved.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ParallelGraphParser extends ChannelGraphParser {
+
+    /**
+     * Minimum size of a chunk, smaller chunks are not worth the overhead.
+     */
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * Maximum size of a chunk, so every chunk can be mapped.
+     */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    /**
+     * Amount of chunks per thread, so threads which finish early can take over work.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Initial size of the edge array of a chunk.
+     */
+    private static final int INITIAL_EDGES = 1 << 10;
+
+    /**
+     * Pool to parse the chunks on.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Preferred size of a chunk, 0 to derive it from the file size.
+     */
+    private final long chunkSize;
+
+    /**
+     * Create a parser which parses on the common pool.
+     */
+    public ParallelGraphParser() {
+        this(ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Create a parser which parses on the given pool.
+     *
+     * @param pool      Pool to parse the chunks on
+     * @param chunkSize Preferred size of a chunk, 0 to derive it from the file size
+     */
+    public ParallelGraphParser(final ForkJoinPool pool, final long chunkSize) {
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected final List<Node> parseNodes(final FileChannel nodeChannel, final GraphMap graphMap) throws IOException {
+
+        List<Node> nodes = new ArrayList<>();
+        for (List<Node> chunk : parseChunks(FileChunks.map(nodeChannel, chunkSize(nodeChannel), '>'), this::nodes)) {
+            chunk.forEach(graphMap::addVertex);
+            nodes.addAll(chunk);
+        }
+
+        return nodes;
+
+    }
+
+    @Override
+    protected final void parseEdges(final FileChannel edgeChannel,
+                                    final GraphMap graphMap,
+                                    final List<Node> nodeList) throws IOException {
+
+        for (int[] chunk : parseChunks(FileChunks.map(edgeChannel, chunkSize(edgeChannel), (char) 0), this::edges)) {
+            for (int i = 0; i < chunk.length && !isCancelled(); i += 2) {
+                graphMap.addEdge(nodeList.get(chunk[i]), nodeList.get(chunk[i + 1]));
+            }
+        }
+
+    }
+
+    /**
+     * Parse all chunks on the pool.
+     *
+     * @param chunks Chunks to parse
+     * @param parser Function which parses a single chunk
+     * @param <T>    Type of a parsed chunk
+     * @return Parsed chunks in file order
+     */
+    private <T> List<T> parseChunks(final List<MappedByteBuffer> chunks,
+                                    final Function<MappedByteBuffer, T> parser) {
+
+        return pool.submit(() -> chunks.parallelStream()
+                .map(parser)
+                .collect(Collectors.toList())).join();
+
+    }
+
+    /**
+     * Parse the nodes in a chunk of the node file.
+     *
+     * @param chunk Chunk to parse
+     * @return Nodes in the chunk
+     */
+    private List<Node> nodes(final MappedByteBuffer chunk) {
+
+        NodeParser nodeParser = new NodeParser();
+        ByteScanner sc = new ByteScanner(chunk);
+        List<Node> nodes = new ArrayList<>();
+
+        while (sc.hasNext() && !isCancelled()) {
+            nodes.add(nodeParser.getNode(sc));
+        }
+
+        countBytes(chunk.limit());
+        countRecords(nodes.size());
+        return nodes;
+
+    }
+
+    /**
+     * Parse the edges in a chunk of the edge file.
+     *
+     * @param chunk Chunk to parse
+     * @return Source and target ids of the edges, one pair after another
+     */
+    private int[] edges(final MappedByteBuffer chunk) {
+
+        ByteScanner sc = new ByteScanner(chunk);
+        int[] edges = new int[INITIAL_EDGES];
+        int size = 0;
+
+        while (sc.hasNext() && !isCancelled()) {
+            if (size == edges.length) {
+                edges = Arrays.copyOf(edges, size * 2);
+            }
+            edges[size++] = sc.nextInt();
+            edges[size++] = sc.nextInt();
+        }
+
+        countBytes(chunk.limit());
+        countRecords(size / 2);
+        return Arrays.copyOf(edges, size);
+
+    }
+
+    /**
+     * Get the chunk size for a file.
+     *
+     * @param channel Channel of the file
+     * @return Preferred size of a chunk
+     * @throws IOException If the size of the file could not be read
+     */
+    private long chunkSize(final FileChannel channel) throws IOException {
+
+        if (chunkSize > 0) {
+            return chunkSize;
+        }
+
+        long size = channel.size() / ((long) pool.getParallelism() * CHUNKS_PER_THREAD);
+        return Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, size));
+
+    }
+
+}
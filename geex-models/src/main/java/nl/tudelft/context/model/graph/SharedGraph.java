@@ -0,0 +1,342 @@
+package nl.tudelft.context.model.graph;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Graph containing the nodes and edges of all sources, where every edge knows its sources.
+ * <p>
+ * A node and an edge are only stored once, instead of once per source, so the graph of a
+ * selection of sources can be flattened without a graph per source.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class SharedGraph extends Graph {
+
+    /**
+     * Sources of every edge.
+     */
+    private final Map<DefaultWeightedEdge, SourceSet> edgeSources = new HashMap<>();
+
+    /**
+     * Nodes of the index, by position.
+     */
+    private DefaultNode[] indexedNodes;
+
+    /**
+     * Index of the nodes of every source, the positions in indexedNodes by genome index, null if not built.
+     */
+    private int[][] nodesBySource;
+
+    /**
+     * Add an edge for sources, if the edge exists the sources are added to the edge.
+     *
+     * @param source  Source node
+     * @param target  Target node
+     * @param sources Sources of the edge
+     */
+    public final void addEdge(final DefaultNode source, final DefaultNode target, final SourceSet sources) {
+
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        DefaultWeightedEdge edge = getEdge(source, target);
+        if (edge == null) {
+            edgeSources.put(addEdge(source, target), sources.intern());
+        } else {
+            edgeSources.put(edge, edgeSources.get(edge).union(sources).intern());
+        }
+
+    }
+
+    /**
+     * Get the sources of an edge.
+     *
+     * @param edge Edge to get the sources of
+     * @return Sources of the edge
+     */
+    public final SourceSet getEdgeSources(final DefaultWeightedEdge edge) {
+        return edgeSources.getOrDefault(edge, SourceSet.EMPTY);
+    }
+
+    @Override
+    public boolean removeEdge(final DefaultWeightedEdge edge) {
+
+        edgeSources.remove(edge);
+        return super.removeEdge(edge);
+
+    }
+
+    @Override
+    public DefaultWeightedEdge removeEdge(final DefaultNode source, final DefaultNode target) {
+
+        final DefaultWeightedEdge edge = super.removeEdge(source, target);
+        edgeSources.remove(edge);
+        return edge;
+
+    }
+
+    @Override
+    public boolean addVertex(final DefaultNode node) {
+
+        nodesBySource = null;
+        return super.addVertex(node);
+
+    }
+
+    @Override
+    public boolean removeVertex(final DefaultNode node) {
+
+        nodesBySource = null;
+        if (containsVertex(node)) {
+            outgoingEdgesOf(node).forEach(edgeSources::remove);
+            incomingEdgesOf(node).forEach(edgeSources::remove);
+        }
+        return super.removeVertex(node);
+
+    }
+
+    /**
+     * Create a graph with the nodes and edges of the sources, weighted by the part of the sources using an edge.
+     *
+     * @param sources Sources to flat
+     * @return Flatten graph from sources
+     */
+    public final FlatGraph flat(final Set<String> sources) {
+
+        final SourceSet selection = SourceSet.of(sources);
+
+        FlatGraph graph = new FlatGraph(selection);
+
+        vertexSet().stream()
+                .filter(node -> SourceSet.of(node.getSources()).containsAny(selection))
+                .forEach(node -> {
+                    node.reset();
+                    graph.addVertex(node);
+                });
+
+        edgeSet().stream()
+                .forEach(edge -> {
+                    final int count = getEdgeSources(edge).countCommon(selection);
+                    if (count > 0) {
+                        graph.setEdgeCount(graph.addEdge(getEdgeSource(edge), getEdgeTarget(edge)), count);
+                    }
+                });
+
+        return graph;
+
+    }
+
+    /**
+     * Update a flattened graph of this graph for added and removed sources.
+     * <p>
+     * Only the nodes of the changed sources and their outgoing edges are visited, found by an index of the nodes
+     * per source. The other edges keep their amount of sources, their weight follows the size of the selection.
+     * The previous graph is updated and returned, so it may not be used by anything else while updating.
+     * </p>
+     *
+     * @param previous Graph flattened from this graph
+     * @param added    Sources to add to the selection
+     * @param removed  Sources to remove from the selection
+     * @return The updated graph
+     */
+    public final FlatGraph flat(final FlatGraph previous, final Set<String> added, final Set<String> removed) {
+
+        final SourceSet oldSelection = previous.getSelection();
+        final SourceSet selection = oldSelection.union(SourceSet.of(added)).difference(SourceSet.of(removed));
+        final SourceSet changed = selection.difference(oldSelection).union(oldSelection.difference(selection));
+        if (changed.isEmpty()) {
+            return previous;
+        }
+
+        previous.setSelection(selection);
+
+        final Set<DefaultNode> affected = nodesOf(changed);
+
+        affected.forEach(node -> {
+            if (!SourceSet.of(node.getSources()).containsAny(selection)) {
+                previous.removeVertex(node);
+            } else if (previous.addVertex(node)) {
+                node.reset();
+            }
+        });
+
+        affected.stream()
+                .filter(previous::containsVertex)
+                .forEach(node -> outgoingEdgesOf(node).forEach(edge -> {
+                    final DefaultNode target = getEdgeTarget(edge);
+                    int count = 0;
+                    if (previous.containsVertex(target)) {
+                        count = getEdgeSources(edge).countCommon(selection);
+                    }
+                    final DefaultWeightedEdge flatEdge = previous.getEdge(node, target);
+                    if (count == 0) {
+                        if (flatEdge != null) {
+                            previous.removeEdge(flatEdge);
+                        }
+                    } else if (flatEdge == null) {
+                        previous.setEdgeCount(previous.addEdge(node, target), count);
+                    } else {
+                        previous.setEdgeCount(flatEdge, count);
+                    }
+                }));
+
+        return previous;
+
+    }
+
+    /**
+     * Get the nodes of any of the sources, with the index of the nodes per source.
+     *
+     * @param sources Sources to get the nodes of
+     * @return Nodes of the sources
+     */
+    private synchronized Set<DefaultNode> nodesOf(final SourceSet sources) {
+
+        final int[][] index = nodesBySource();
+        final DefaultNode[] nodes = indexedNodes;
+        final Set<DefaultNode> result = new LinkedHashSet<>();
+        sources.forEachIndex(source -> {
+            if (source < index.length) {
+                for (int position : index[source]) {
+                    result.add(nodes[position]);
+                }
+            }
+        });
+
+        return result;
+
+    }
+
+    /**
+     * Get the index of the nodes per source, it is built when the nodes changed.
+     *
+     * @return Positions in indexedNodes by genome index
+     */
+    private int[][] nodesBySource() {
+
+        if (nodesBySource != null) {
+            return nodesBySource;
+        }
+
+        final DefaultNode[] nodes = vertexSet().toArray(new DefaultNode[vertexSet().size()]);
+        final int[] counts = new int[GenomeRegistry.instance().size()];
+        for (DefaultNode node : nodes) {
+            SourceSet.of(node.getSources()).forEachIndex(source -> counts[source]++);
+        }
+
+        final int[][] index = new int[counts.length][];
+        for (int source = 0; source < counts.length; source++) {
+            index[source] = new int[counts[source]];
+            counts[source] = 0;
+        }
+        for (int position = 0; position < nodes.length; position++) {
+            final int node = position;
+            SourceSet.of(nodes[position].getSources()).forEachIndex(source -> {
+                index[source][counts[source]++] = node;
+            });
+        }
+
+        indexedNodes = nodes;
+        nodesBySource = index;
+        return index;
+
+    }
+
+    /**
+     * Filter all skipping edges, as if they were filtered in the graph of every single source.
+     */
+    public final void filter() {
+
+        final List<String> sources = vertexSet().stream()
+                .map(DefaultNode::getSources)
+                .flatMap(Set::stream)
+                .distinct()
+                .collect(Collectors.toList());
+
+        final Map<DefaultWeightedEdge, SourceSet.Builder> skipping = new HashMap<>();
+        sources.parallelStream()
+                .map(GenomeRegistry.instance()::indexOf)
+                .collect(Collectors.toMap(source -> source, this::skippingEdges))
+                .forEach((source, edges) -> edges.forEach(edge ->
+                        skipping.computeIfAbsent(edge, e -> new SourceSet.Builder()).add(source)));
+
+        skipping.forEach((edge, removed) -> {
+            final SourceSet remaining = getEdgeSources(edge).difference(removed.build());
+            if (remaining.isEmpty()) {
+                removeEdge(edge);
+            } else {
+                edgeSources.put(edge, remaining.intern());
+            }
+        });
+
+    }
+
+    /**
+     * Find the skipping edges in the graph of a single source.
+     *
+     * @param source Index of the source
+     * @return Skipping edges of the source
+     */
+    private List<DefaultWeightedEdge> skippingEdges(final int source) {
+
+        final Set<DefaultWeightedEdge> skipping = new HashSet<>();
+
+        List<DefaultNode> current = vertexSet().stream()
+                .filter(node -> SourceSet.of(node.getSources()).contains(source))
+                .filter(node -> edgesOf(incomingEdgesOf(node), source, skipping).isEmpty())
+                .collect(Collectors.toList());
+
+        while (!current.isEmpty()) {
+
+            final List<DefaultWeightedEdge> outgoing = edgesOf(outgoingEdgesOf(current.get(0)), source, skipping);
+            if (outgoing.size() > 1) {
+
+                outgoing.stream()
+                        .filter(edge -> edgesOf(incomingEdgesOf(getEdgeTarget(edge)), source, skipping).size() > 1)
+                        .forEach(skipping::add);
+
+            }
+
+            current = edgesOf(outgoing, source, skipping).stream()
+                    .map(this::getEdgeTarget)
+                    .collect(Collectors.toList());
+
+        }
+
+        return new ArrayList<>(skipping);
+
+    }
+
+    /**
+     * Get the edges of a source, which are not skipping.
+     *
+     * @param edges    Edges to select from
+     * @param source   Index of the source
+     * @param skipping Edges that are skipping for the source
+     * @return Edges of the source
+     */
+    private List<DefaultWeightedEdge> edgesOf(final Collection<DefaultWeightedEdge> edges,
+                                              final int source,
+                                              final Set<DefaultWeightedEdge> skipping) {
+
+        return edges.stream()
+                .filter(edge -> getEdgeSources(edge).contains(source) && !skipping.contains(edge))
+                .collect(Collectors.toList());
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package nl.tudelft.context.model.graph;
+
+/**
+ * Parallel graph parser which parses into one graph shared by all sources.
+ * <p>
+ * Instead of a graph per source, the edges keep their sources, see GraphMap.shared.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class SharedGraphParser extends ParallelGraphParser {
+
+    @Override
+    protected GraphMap createGraphMap() {
+        return GraphMap.shared();
+    }
+
+}
@@ -0,0 +1,400 @@
+package nl.tudelft.context.model.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable set of genomes, stored as bits indexed by the GenomeRegistry.
+ * <p>
+ * The source sets of nodes and edges are interned, so equal sets are shared. Sets created by union,
+ * intersection and difference are not interned, they are only used while they are referenced.
+ * Containment, union and intersection of two source sets work on whole words instead of single genomes.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class SourceSet extends AbstractSet<String> {
+
+    /**
+     * The empty source set.
+     */
+    public static final SourceSet EMPTY = new SourceSet(new long[0]);
+
+    /**
+     * Bits of the genomes in this set, without trailing empty words.
+     */
+    private final long[] words;
+
+    /**
+     * Amount of genomes in this set.
+     */
+    private final int size;
+
+    /**
+     * Hash code, the sum of the hash codes of the genomes as required by Set.
+     */
+    private final int hash;
+
+    /**
+     * Create a source set on words without trailing empty words.
+     *
+     * @param words Bits of the genomes
+     */
+    private SourceSet(final long[] words) {
+
+        this.words = words;
+
+        int count = 0;
+        int sum = 0;
+        for (int i = nextIndex(0); i >= 0; i = nextIndex(i + 1)) {
+            count++;
+            sum += GenomeRegistry.instance().genome(i).hashCode();
+        }
+        this.size = count;
+        this.hash = sum;
+
+    }
+
+    /**
+     * Get the source set of words.
+     *
+     * @param words Bits of the genomes
+     * @return The source set, EMPTY if there are no genomes
+     */
+    static SourceSet of(final long[] words) {
+
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+
+        if (length == 0) {
+            return EMPTY;
+        }
+        return new SourceSet(Arrays.copyOf(words, length));
+
+    }
+
+    /**
+     * Get a source set containing the genomes.
+     *
+     * @param genomes Genomes in the set
+     * @return The source set, not interned unless the genomes are an interned source set
+     */
+    public static SourceSet of(final Collection<String> genomes) {
+
+        if (genomes instanceof SourceSet) {
+            return (SourceSet) genomes;
+        }
+
+        final Builder builder = new Builder();
+        genomes.forEach(builder::add);
+
+        return builder.build();
+
+    }
+
+    /**
+     * Get the shared source set which is equal to this set, for sets which are kept by nodes and edges.
+     *
+     * @return The interned source set
+     */
+    public SourceSet intern() {
+
+        if (words.length == 0) {
+            return EMPTY;
+        }
+        return GenomeRegistry.instance().intern(this);
+
+    }
+
+    /**
+     * Check if this set contains any of the genomes of another set.
+     *
+     * @param other Other set
+     * @return If the sets have a genome in common
+     */
+    public boolean containsAny(final SourceSet other) {
+
+        final int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+
+    }
+
+    /**
+     * Get the genomes which are in this set or in another set.
+     *
+     * @param other Other set
+     * @return The union of both sets
+     */
+    public SourceSet union(final SourceSet other) {
+
+        final long[] longer = words.length >= other.words.length ? words : other.words;
+        final long[] shorter = longer == words ? other.words : words;
+
+        final long[] union = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            union[i] |= shorter[i];
+        }
+
+        return of(union);
+
+    }
+
+    /**
+     * Get the genomes which are in this set and in another set.
+     *
+     * @param other Other set
+     * @return The intersection of both sets
+     */
+    public SourceSet intersect(final SourceSet other) {
+
+        final long[] intersection = new long[Math.min(words.length, other.words.length)];
+        for (int i = 0; i < intersection.length; i++) {
+            intersection[i] = words[i] & other.words[i];
+        }
+
+        return of(intersection);
+
+    }
+
+    /**
+     * Get the genomes which are in this set but not in another set.
+     *
+     * @param other Other set
+     * @return This set without the genomes of the other set
+     */
+    public SourceSet difference(final SourceSet other) {
+
+        final long[] difference = words.clone();
+        final int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            difference[i] &= ~other.words[i];
+        }
+
+        return of(difference);
+
+    }
+
+    /**
+     * Count the genomes this set has in common with another set, without creating the intersection.
+     *
+     * @param other Other set
+     * @return The size of the intersection
+     */
+    public int countCommon(final SourceSet other) {
+
+        int count = 0;
+        final int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+
+    }
+
+    @Override
+    public boolean contains(final Object genome) {
+        return contains(GenomeRegistry.instance().indexOf(genome));
+    }
+
+    /**
+     * Check if the set contains the genome with an index.
+     *
+     * @param index Index of the genome
+     * @return If the genome is in this set
+     */
+    public boolean contains(final int index) {
+        final int word = index / Long.SIZE;
+        return index >= 0 && word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> collection) {
+
+        if (collection instanceof SourceSet) {
+            final long[] other = ((SourceSet) collection).words;
+            if (other.length > words.length) {
+                return false;
+            }
+            for (int i = 0; i < other.length; i++) {
+                if ((other[i] & ~words[i]) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.containsAll(collection);
+
+    }
+
+    /**
+     * Run an action for the index of every genome in this set.
+     *
+     * @param action Action to run with the index
+     */
+    public void forEachIndex(final IntConsumer action) {
+
+        for (int i = nextIndex(0); i >= 0; i = nextIndex(i + 1)) {
+            action.accept(i);
+        }
+
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+
+        return new Iterator<String>() {
+
+            private int next = nextIndex(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public String next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                final String genome = GenomeRegistry.instance().genome(next);
+                next = nextIndex(next + 1);
+                return genome;
+            }
+
+        };
+
+    }
+
+    /**
+     * Get the index of the next genome in the set.
+     *
+     * @param from Index to search from (inclusive)
+     * @return Index of the next genome, -1 if there is none
+     */
+    private int nextIndex(final int from) {
+
+        int word = from / Long.SIZE;
+        if (word >= words.length) {
+            return -1;
+        }
+
+        long bits = words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+
+        if (other instanceof SourceSet) {
+            return Arrays.equals(words, ((SourceSet) other).words);
+        }
+        return super.equals(other);
+
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Builder for a source set, which can be reused after building.
+     */
+    public static final class Builder {
+
+        /**
+         * Bits of the genomes added.
+         */
+        private long[] words = new long[1];
+
+        /**
+         * Add a genome.
+         *
+         * @param genome Name of the genome
+         * @return this
+         */
+        public Builder add(final String genome) {
+            return add(GenomeRegistry.instance().index(genome));
+        }
+
+        /**
+         * Add a genome by index.
+         *
+         * @param index Index of the genome
+         * @return this
+         */
+        public Builder add(final int index) {
+
+            final int word = index / Long.SIZE;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+            }
+            words[word] |= 1L << index;
+
+            return this;
+
+        }
+
+        /**
+         * Add all genomes of a source set.
+         *
+         * @param sourceSet Genomes to add
+         * @return this
+         */
+        public Builder addAll(final SourceSet sourceSet) {
+
+            final long[] other = sourceSet.words;
+            if (other.length > words.length) {
+                words = Arrays.copyOf(words, other.length);
+            }
+            for (int i = 0; i < other.length; i++) {
+                words[i] |= other[i];
+            }
+
+            return this;
+
+        }
+
+        /**
+         * Build the source set and clear the builder.
+         *
+         * @return The source set
+         */
+        public SourceSet build() {
+
+            final SourceSet sourceSet = of(words);
+            Arrays.fill(words, 0);
+
+            return sourceSet;
+
+        }
+
+    }
+
+}
@@ -66,7 +66,7 @@ public abstract class StackGraph extends DefaultGraph<DefaultNode> {
                     DefaultNode target = getEdgeTarget(edge);
                     if (nodes.contains(source)
                             && nodes.contains(target)) {
-                        setEdgeWeight(
+                        subGraph.setEdgeWeight(
                                 subGraph.addEdge(source, target),
                                 getEdgeWeight(edge)
                         );
@@ -28,7 +28,7 @@ public final class BaseLengthFilter extends FilterGraph {
 
     @Override
     protected Predicate<DefaultNode> filter() {
-        return defaultNode -> defaultNode instanceof Node && defaultNode.getContent().length() <= THRESHOLD;
+        return defaultNode -> defaultNode instanceof Node && defaultNode.getContentLength() <= THRESHOLD;
     }
 
 }
@@ -0,0 +1,99 @@
+package nl.tudelft.context.model.graph.filter;
+
+import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.StackGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bubble found in a graph, a start and end node with the nodes in between.
+ * <p>
+ * Bubbles are detected in parallel, every start node only looks at its own neighbourhood. The
+ * bubbles are returned in the order of the vertex set, so merging them gives the same result as a
+ * sequential detection.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class Bubble {
+
+    /**
+     * Start of the bubble.
+     */
+    private final DefaultNode start;
+
+    /**
+     * End of the bubble.
+     */
+    private final DefaultNode end;
+
+    /**
+     * Nodes between start and end.
+     */
+    private final List<DefaultNode> parts;
+
+    /**
+     * Create a bubble.
+     *
+     * @param start Start of the bubble
+     * @param end   End of the bubble
+     * @param parts Nodes between start and end
+     */
+    Bubble(final DefaultNode start, final DefaultNode end, final List<DefaultNode> parts) {
+        this.start = start;
+        this.end = end;
+        this.parts = parts;
+    }
+
+    /**
+     * Detect the bubbles of every node in a graph in parallel.
+     * <p>
+     * The detector may only read the graph.
+     * </p>
+     *
+     * @param graph    Graph to detect bubbles in
+     * @param detector Function which finds the bubbles starting at a node
+     * @return The bubbles in the order of the vertex set
+     */
+    static List<Bubble> detect(final StackGraph graph, final Function<DefaultNode, Stream<Bubble>> detector) {
+
+        return new ArrayList<>(graph.vertexSet()).parallelStream()
+                .flatMap(detector)
+                .collect(Collectors.toList());
+
+    }
+
+    /**
+     * Get the start of the bubble.
+     *
+     * @return Start of the bubble
+     */
+    DefaultNode getStart() {
+        return start;
+    }
+
+    /**
+     * Get the end of the bubble.
+     *
+     * @return End of the bubble
+     */
+    DefaultNode getEnd() {
+        return end;
+    }
+
+    /**
+     * Get the nodes between start and end.
+     *
+     * @return Nodes between start and end
+     */
+    List<DefaultNode> getParts() {
+        return parts;
+    }
+
+}
@@ -1,6 +1,7 @@
 package nl.tudelft.context.model.graph.filter;
 
 import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.OverlayGraph;
 import nl.tudelft.context.model.graph.StackGraph;
 import org.jgrapht.graph.DefaultWeightedEdge;
 
@@ -31,7 +32,7 @@ public abstract class FilterGraph implements StackGraphFilter {
      * @param graph Graph to remove unkowns form.
      */
     public FilterGraph(final StackGraph graph) {
-        this.filtered = graph.deepClone();
+        this.filtered = new OverlayGraph(graph);
     }
 
     @Override
@@ -2,13 +2,17 @@ package nl.tudelft.context.model.graph.filter;
 
 import nl.tudelft.context.model.graph.DefaultNode;
 import nl.tudelft.context.model.graph.GraphNode;
+import nl.tudelft.context.model.graph.OverlayGraph;
 import nl.tudelft.context.model.graph.StackGraph;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * @author René Vennik
@@ -39,7 +43,7 @@ public class InsertDeleteFilter implements StackGraphFilter {
      */
     public InsertDeleteFilter(final StackGraph graph) {
         this.previous = graph;
-        this.filtered = graph.deepClone();
+        this.filtered = new OverlayGraph(graph);
     }
 
     @Override
@@ -53,23 +57,32 @@ public class InsertDeleteFilter implements StackGraphFilter {
 
 
     /**
-     * Mark the insert deletes.
+     * Mark the insert deletes, which are detected in parallel.
      */
     private void markInDel() {
 
-        filtered.vertexSet().stream()
-                .forEach(startNode -> {
+        Bubble.detect(filtered, this::findInsertDeletes).forEach(this::addInsertDelete);
 
-                    List<DefaultNode> targets = filtered.getTargets(startNode);
+    }
+
+    /**
+     * Find the insert deletes starting at a node.
+     *
+     * @param startNode Possible start node
+     * @return The insert deletes starting at the node
+     */
+    private Stream<Bubble> findInsertDeletes(final DefaultNode startNode) {
 
-                    if (targets.size() != 2) {
-                        return;
-                    }
+        List<DefaultNode> targets = filtered.getTargets(startNode);
 
-                    isInsertDelete(startNode, targets.get(1), targets.get(0));
-                    isInsertDelete(startNode, targets.get(0), targets.get(1));
+        if (targets.size() != 2) {
+            return Stream.empty();
+        }
 
-                });
+        return Stream.of(
+                findInsertDelete(startNode, targets.get(1), targets.get(0)),
+                findInsertDelete(startNode, targets.get(0), targets.get(1))
+        ).filter(Objects::nonNull);
 
     }
 
@@ -81,14 +94,39 @@ public class InsertDeleteFilter implements StackGraphFilter {
      * @param part  Possible node between start and end
      */
     public void isInsertDelete(final DefaultNode start, final DefaultNode end, final DefaultNode part) {
+        Bubble bubble = findInsertDelete(start, end, part);
+        if (bubble != null) {
+            addInsertDelete(bubble);
+        }
+    }
+
+    /**
+     * Check if nodes are part of an insert delete.
+     *
+     * @param start Possible start node
+     * @param end   Possible end node
+     * @param part  Possible node between start and end
+     * @return The insert delete, null if the nodes are not an insert delete
+     */
+    private Bubble findInsertDelete(final DefaultNode start, final DefaultNode end, final DefaultNode part) {
         List<DefaultNode> ends = filtered.getTargets(part);
         if (ends.size() == 1
                 && ends.get(0).equals(end)
                 && filtered.inDegreeOf(part) == 1
                 && filtered.inDegreeOf(end) == 2) {
-            inDelPart.add(part);
-            inDel.put(start, end);
+            return new Bubble(start, end, Collections.singletonList(part));
         }
+        return null;
+    }
+
+    /**
+     * Add an insert delete to the marked insert deletes.
+     *
+     * @param bubble The insert delete
+     */
+    private void addInsertDelete(final Bubble bubble) {
+        inDelPart.addAll(bubble.getParts());
+        inDel.put(bubble.getStart(), bubble.getEnd());
     }
 
     /**
@@ -2,6 +2,7 @@ package nl.tudelft.context.model.graph.filter;
 
 import nl.tudelft.context.model.graph.DefaultNode;
 import nl.tudelft.context.model.graph.GraphNode;
+import nl.tudelft.context.model.graph.OverlayGraph;
 import nl.tudelft.context.model.graph.StackGraph;
 
 import java.util.Collection;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author René Vennik
@@ -38,7 +40,7 @@ public class SinglePointFilter implements StackGraphFilter {
      * @param graph Graph to calculate single point mutations on
      */
     public SinglePointFilter(final StackGraph graph) {
-        this.filtered = graph.deepClone();
+        this.filtered = new OverlayGraph(graph);
         this.previous = graph;
     }
 
@@ -52,33 +54,46 @@ public class SinglePointFilter implements StackGraphFilter {
     }
 
     /**
-     * Mark all the single base mutations.
+     * Mark all the single base mutations, which are detected in parallel.
      */
     private void markSingle() {
 
-        filtered.vertexSet().stream()
-                .forEach(startNode -> {
-                    List<DefaultNode> targets = filtered.getTargets(startNode);
-                    if (targets.size() == 1 || targets.stream().anyMatch(t -> t.getContent().length() != 1)) {
-                        return;
-                    }
-
-                    Set<DefaultNode> end = targets.stream()
-                            .map(filtered::getTargets)
-                            .flatMap(Collection::stream)
-                            .collect(Collectors.toSet());
-
-                    if (end.size() == 1) {
-                        end.stream().filter(endNode -> filtered.inDegreeOf(endNode) == targets.size())
-                                .forEach(endNode -> {
-                                    targets.stream().forEach(singlePart::add);
-                                    single.put(startNode, endNode);
-                                });
-                    }
+        Bubble.detect(filtered, this::findSingle)
+                .forEach(bubble -> {
+                    singlePart.addAll(bubble.getParts());
+                    single.put(bubble.getStart(), bubble.getEnd());
                 });
 
     }
 
+    /**
+     * Find the single base mutation starting at a node.
+     *
+     * @param startNode Possible start node
+     * @return The single base mutation, if there is one
+     */
+    private Stream<Bubble> findSingle(final DefaultNode startNode) {
+
+        List<DefaultNode> targets = filtered.getTargets(startNode);
+        if (targets.size() == 1 || targets.stream().anyMatch(t -> t.getContentLength() != 1)) {
+            return Stream.empty();
+        }
+
+        Set<DefaultNode> end = targets.stream()
+                .map(filtered::getTargets)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+
+        if (end.size() != 1) {
+            return Stream.empty();
+        }
+
+        return end.stream()
+                .filter(endNode -> filtered.inDegreeOf(endNode) == targets.size())
+                .map(endNode -> new Bubble(startNode, endNode, targets));
+
+    }
+
     /**
      * Remove duplicates in single start & and.
      */
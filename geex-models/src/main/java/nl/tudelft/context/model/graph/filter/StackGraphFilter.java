@@ -9,7 +9,7 @@ import nl.tudelft.context.model.graph.StackGraph;
  */
 public interface StackGraphFilter {
     /**
-     * Clone and apply a filter to the stackGraph.
+     * Apply a filter to the stackGraph, the stackGraph itself is not changed.
      *
      * @return StackGraph with this filter.
      */
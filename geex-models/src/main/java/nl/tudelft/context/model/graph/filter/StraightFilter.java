@@ -2,6 +2,7 @@ package nl.tudelft.context.model.graph.filter;
 
 import nl.tudelft.context.model.graph.DefaultNode;
 import nl.tudelft.context.model.graph.GraphNode;
+import nl.tudelft.context.model.graph.OverlayGraph;
 import nl.tudelft.context.model.graph.StackGraph;
 
 import java.util.HashMap;
@@ -36,7 +37,7 @@ public class StraightFilter implements StackGraphFilter {
      * @param graph Graph to calculate collapses on
      */
     public StraightFilter(final StackGraph graph) {
-        this.filtered = graph.deepClone();
+        this.filtered = new OverlayGraph(graph);
         this.previous = graph;
     }
 
@@ -0,0 +1,266 @@
+package nl.tudelft.context.model.graph.filter;
+
+import nl.tudelft.context.model.graph.CsrGraph;
+import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.StackGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Superbubble in a directed acyclic graph, a start and end node where every path from the start
+ * ends in the end, every path to the end starts in the start and no smaller end exists.
+ * <p>
+ * The superbubbles are detected in linear time. In a depth first topological order a superbubble
+ * is a closed interval of the order: no node in the interval has a target after the end and no
+ * node has a source before the start. For every start the smallest closed end is found with a
+ * stack from right to left and the starts are checked with a stack from left to right.
+ * Superbubbles nest, the depth is the amount of superbubbles a superbubble is nested in.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class SuperBubble {
+
+    /**
+     * Start of the superbubble.
+     */
+    private final DefaultNode start;
+
+    /**
+     * End of the superbubble.
+     */
+    private final DefaultNode end;
+
+    /**
+     * Amount of superbubbles this superbubble is nested in.
+     */
+    private final int depth;
+
+    /**
+     * Create a superbubble.
+     *
+     * @param start Start of the superbubble
+     * @param end   End of the superbubble
+     * @param depth Amount of superbubbles this superbubble is nested in
+     */
+    SuperBubble(final DefaultNode start, final DefaultNode end, final int depth) {
+        this.start = start;
+        this.end = end;
+        this.depth = depth;
+    }
+
+    /**
+     * Detect all superbubbles with at least one node between start and end.
+     *
+     * @param graph Acyclic graph to detect the superbubbles in
+     * @return The superbubbles in topological order of their start
+     */
+    public static List<SuperBubble> detect(final StackGraph graph) {
+
+        final CsrGraph<DefaultNode> csr = new CsrGraph<>(graph);
+        final int size = csr.size();
+
+        final int[] order = topologicalOrder(csr);
+        if (order == null) {
+            return Collections.emptyList();
+        }
+
+        final int[] position = new int[size];
+        for (int i = 0; i < size; i++) {
+            position[order[i]] = i;
+        }
+
+        final int[] outChild = new int[size];
+        final int[] outParent = new int[size];
+        for (int i = 0; i < size; i++) {
+            final int id = order[i];
+
+            outChild[i] = csr.outDegree(id) == 0 ? size : i;
+            for (int edge = csr.targetStart(id); edge < csr.targetEnd(id); edge++) {
+                outChild[i] = Math.max(outChild[i], position[csr.target(edge)]);
+            }
+
+            outParent[i] = csr.inDegree(id) == 0 ? -1 : i;
+            for (int edge = csr.sourceStart(id); edge < csr.sourceEnd(id); edge++) {
+                outParent[i] = Math.min(outParent[i], position[csr.source(edge)]);
+            }
+        }
+
+        final int[] exits = exits(outChild);
+        final boolean[] valid = validate(exits, outParent);
+
+        final List<SuperBubble> bubbles = new ArrayList<>();
+        final int[] ends = new int[size];
+        int top = -1;
+        for (int i = 0; i < size; i++) {
+            if (valid[i]) {
+                while (top >= 0 && ends[top] <= i) {
+                    top--;
+                }
+                bubbles.add(new SuperBubble(csr.nodeOf(order[i]), csr.nodeOf(order[exits[i]]), top + 1));
+                ends[++top] = exits[i];
+            }
+        }
+
+        return bubbles;
+
+    }
+
+    /**
+     * Order the nodes topologically, by the reversed post order of a depth first search.
+     * <p>
+     * Unlike other topological orders this one keeps the nodes of a superbubble together.
+     * </p>
+     *
+     * @param csr Graph to order
+     * @return The ids in topological order, null if not every node is reachable from a first node
+     */
+    private static int[] topologicalOrder(final CsrGraph<DefaultNode> csr) {
+
+        final int size = csr.size();
+        final int[] order = new int[size];
+        final boolean[] visited = new boolean[size];
+        final int[] stack = new int[size];
+        final int[] edges = new int[size];
+        int next = size;
+
+        for (int root = 0; root < size; root++) {
+            if (visited[root] || csr.inDegree(root) != 0) {
+                continue;
+            }
+
+            int top = 0;
+            stack[0] = root;
+            edges[0] = csr.targetStart(root);
+            visited[root] = true;
+
+            while (top >= 0) {
+                final int node = stack[top];
+                if (edges[top] < csr.targetEnd(node)) {
+                    final int target = csr.target(edges[top]++);
+                    if (!visited[target]) {
+                        visited[target] = true;
+                        stack[++top] = target;
+                        edges[top] = csr.targetStart(target);
+                    }
+                } else {
+                    order[--next] = node;
+                    top--;
+                }
+            }
+        }
+
+        if (next != 0) {
+            return null;
+        }
+        return order;
+
+    }
+
+    /**
+     * Find for every position the smallest end after which no node of the interval has a target.
+     * <p>
+     * The stack holds the closed ends of the next position, so the end of a position is the
+     * first end on the stack that is not before its furthest target.
+     * </p>
+     *
+     * @param outChild Position of the furthest target of every position, the size for none
+     * @return The smallest closed end of every position, the size for none
+     */
+    private static int[] exits(final int[] outChild) {
+
+        final int size = outChild.length;
+        final int[] exits = new int[size];
+        final int[] stack = new int[size + 1];
+        int top = 0;
+        stack[0] = size;
+
+        for (int i = size - 1; i >= 0; i--) {
+            while (stack[top] < outChild[i]) {
+                top--;
+            }
+            exits[i] = stack[top];
+            stack[++top] = i;
+        }
+
+        return exits;
+
+    }
+
+    /**
+     * Check for every start if no node up to its end has a source before the start.
+     * <p>
+     * The stack holds the closed starts of the current position, so a start is valid if it is on
+     * the stack when its end is reached.
+     * </p>
+     *
+     * @param exits     The smallest closed end of every position
+     * @param outParent Position of the first source of every position, -1 for none
+     * @return If the start and its end form a superbubble with a node in between
+     */
+    private static boolean[] validate(final int[] exits, final int[] outParent) {
+
+        final int size = exits.length;
+        final int[] firstStart = new int[size];
+        final int[] nextStart = new int[size];
+        Arrays.fill(firstStart, -1);
+        for (int i = size - 1; i >= 0; i--) {
+            if (exits[i] < size && exits[i] > i + 1) {
+                nextStart[i] = firstStart[exits[i]];
+                firstStart[exits[i]] = i;
+            }
+        }
+
+        final boolean[] valid = new boolean[size];
+        final boolean[] open = new boolean[size];
+        final int[] stack = new int[size];
+        int top = -1;
+
+        for (int j = 0; j < size; j++) {
+            while (top >= 0 && stack[top] > outParent[j]) {
+                open[stack[top--]] = false;
+            }
+            for (int i = firstStart[j]; i >= 0; i = nextStart[i]) {
+                valid[i] = open[i];
+            }
+            stack[++top] = j;
+            open[j] = true;
+        }
+
+        return valid;
+
+    }
+
+    /**
+     * Get the start of the superbubble.
+     *
+     * @return Start of the superbubble
+     */
+    public DefaultNode getStart() {
+        return start;
+    }
+
+    /**
+     * Get the end of the superbubble.
+     *
+     * @return End of the superbubble
+     */
+    public DefaultNode getEnd() {
+        return end;
+    }
+
+    /**
+     * Get the amount of superbubbles this superbubble is nested in.
+     *
+     * @return Depth of the superbubble
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+}
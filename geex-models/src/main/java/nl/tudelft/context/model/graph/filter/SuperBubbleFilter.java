@@ -0,0 +1,92 @@
+package nl.tudelft.context.model.graph.filter;
+
+import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.GraphNode;
+import nl.tudelft.context.model.graph.OverlayGraph;
+import nl.tudelft.context.model.graph.StackGraph;
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Collapses every maximal superbubble into a graph node.
+ * <p>
+ * The superbubbles are detected once and collapsed from the deepest level up, so the sub graph of
+ * a graph node shows the superbubbles nested in it as graph nodes again.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class SuperBubbleFilter implements StackGraphFilter {
+
+    /**
+     * Input graph.
+     */
+    private final StackGraph previous;
+
+    /**
+     * Create a graph with collapsed superbubbles based on an other graph.
+     *
+     * @param graph Graph to detect the superbubbles in
+     */
+    public SuperBubbleFilter(final StackGraph graph) {
+        this.previous = graph;
+    }
+
+    @Override
+    public StackGraph getFilterGraph() {
+
+        Map<Integer, List<SuperBubble>> levels = SuperBubble.detect(previous).stream()
+                .collect(Collectors.groupingBy(SuperBubble::getDepth));
+
+        StackGraph graph = previous;
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            graph = collapse(graph, levels.get(depth));
+        }
+
+        if (graph == previous) {
+            return new OverlayGraph(previous);
+        }
+        return graph;
+
+    }
+
+    /**
+     * Collapse the superbubbles of one level.
+     *
+     * @param inner   Graph with the deeper superbubbles collapsed
+     * @param bubbles Superbubbles of this level in topological order
+     * @return Graph with the superbubbles of this level collapsed
+     */
+    private StackGraph collapse(final StackGraph inner, final List<SuperBubble> bubbles) {
+
+        StackGraph filtered = new OverlayGraph(inner);
+
+        bubbles.forEach(bubble -> {
+            DefaultNode start = bubble.getStart();
+            DefaultNode end = bubble.getEnd();
+            GraphNode graphNode = new GraphNode(inner, start, end, "super-bubble");
+
+            graphNode.getNodes().stream()
+                    .filter(node -> !node.equals(start))
+                    .forEach(filtered::removeVertex);
+
+            DefaultWeightedEdge edge = filtered.getEdge(start, end);
+            if (edge == null) {
+                edge = filtered.addEdge(start, end);
+            }
+            filtered.setEdgeWeight(edge,
+                    inner.incomingEdgesOf(end).stream().mapToDouble(inner::getEdgeWeight).sum());
+
+            filtered.replace(start, graphNode);
+        });
+
+        return filtered;
+
+    }
+
+}
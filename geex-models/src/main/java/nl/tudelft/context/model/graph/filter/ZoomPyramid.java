@@ -0,0 +1,226 @@
+package nl.tudelft.context.model.graph.filter;
+
+import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.GraphNode;
+import nl.tudelft.context.model.graph.StackGraph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Zoom levels of a graph, where every level has at most a quarter of the nodes of the level below.
+ * <p>
+ * The filters are applied over and over until they do not collapse any node anymore. Every time
+ * the graph has shrunk enough it is kept as the next level. Every node of a level knows the node
+ * it is collapsed into on the level above and the nodes it contains on the level below, so a view
+ * can switch levels and stay at the same place.
+ * </p>
+ * <p>
+ * Building can be cancelled, it stops before the next filter pass with the levels built so far.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ZoomPyramid {
+
+    /**
+     * Factor by which the amount of nodes shrinks at least between two levels.
+     */
+    public static final int REDUCTION = 4;
+
+    /**
+     * Filters used when no filters are given.
+     */
+    private static final List<Function<StackGraph, StackGraphFilter>> DEFAULT_FILTERS = Arrays.asList(
+            SuperBubbleFilter::new,
+            StraightFilter::new
+    );
+
+    /**
+     * Graphs of every level, the first is the graph the pyramid is built on.
+     */
+    private final List<StackGraph> levels = new ArrayList<>();
+
+    /**
+     * For every level but the last, the node on the level above which contains a node.
+     */
+    private final List<Map<DefaultNode, DefaultNode>> parents = new ArrayList<>();
+
+    /**
+     * For every level but the first, the nodes on the level below which a node contains.
+     */
+    private final List<Map<DefaultNode, List<DefaultNode>>> children = new ArrayList<>();
+
+    /**
+     * Build the zoom levels of a graph, by collapsing superbubbles and straight sequences.
+     *
+     * @param graph Graph of the lowest level
+     */
+    public ZoomPyramid(final StackGraph graph) {
+        this(graph, () -> false);
+    }
+
+    /**
+     * Build the zoom levels of a graph, by collapsing superbubbles and straight sequences, until cancelled.
+     *
+     * @param graph     Graph of the lowest level
+     * @param cancelled If building is cancelled
+     */
+    public ZoomPyramid(final StackGraph graph, final BooleanSupplier cancelled) {
+        this(graph, DEFAULT_FILTERS, cancelled);
+    }
+
+    /**
+     * Build the zoom levels of a graph.
+     *
+     * @param graph     Graph of the lowest level
+     * @param filters   Filters to apply in turn
+     * @param cancelled If building is cancelled
+     */
+    public ZoomPyramid(final StackGraph graph,
+                       final List<Function<StackGraph, StackGraphFilter>> filters,
+                       final BooleanSupplier cancelled) {
+
+        levels.add(graph);
+
+        StackGraph level = graph;
+        StackGraph filtered = graph;
+        int step = 0;
+        int unchanged = 0;
+
+        while (unchanged < filters.size()) {
+            if (cancelled.getAsBoolean()) {
+                return;
+            }
+            StackGraph next = filters.get(step++ % filters.size()).apply(filtered).getFilterGraph();
+            if (next.vertexSet().size() < filtered.vertexSet().size()) {
+                unchanged = 0;
+            } else {
+                unchanged++;
+            }
+
+            filtered = next;
+            if (filtered.vertexSet().size() * REDUCTION <= level.vertexSet().size()) {
+                filtered = filtered.deepClone();
+                addLevel(level, filtered);
+                level = filtered;
+            }
+        }
+
+        if (filtered.vertexSet().size() < level.vertexSet().size()) {
+            addLevel(level, filtered.deepClone());
+        }
+
+    }
+
+    /**
+     * Add a level and link its nodes to the nodes of the level below.
+     *
+     * @param lower Graph of the level below
+     * @param upper Graph of the new level
+     */
+    private void addLevel(final StackGraph lower, final StackGraph upper) {
+
+        Map<DefaultNode, DefaultNode> parent = new HashMap<>();
+        Map<DefaultNode, List<DefaultNode>> child = new HashMap<>();
+
+        upper.vertexSet().forEach(node -> {
+            List<DefaultNode> members = members(lower, node);
+            members.forEach(member -> parent.put(member, node));
+            child.put(node, members);
+        });
+
+        levels.add(upper);
+        parents.add(parent);
+        children.add(child);
+
+    }
+
+    /**
+     * Get the nodes of a level a node contains, by looking into the nested graph nodes.
+     *
+     * @param lower Graph of the level below
+     * @param node  Node of the level above
+     * @return Nodes of the level below the node contains
+     */
+    private static List<DefaultNode> members(final StackGraph lower, final DefaultNode node) {
+
+        List<DefaultNode> members = new ArrayList<>();
+        Deque<DefaultNode> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+            DefaultNode current = stack.pop();
+            if (lower.containsVertex(current)) {
+                members.add(current);
+            } else if (current instanceof GraphNode) {
+                ((GraphNode) current).getNodes().forEach(stack::push);
+            }
+        }
+
+        return members;
+
+    }
+
+    /**
+     * Get the amount of levels.
+     *
+     * @return Amount of levels
+     */
+    public int size() {
+        return levels.size();
+    }
+
+    /**
+     * Get the graph of a level.
+     *
+     * @param level Level, 0 is the graph the pyramid is built on
+     * @return Graph of the level
+     */
+    public StackGraph getLevel(final int level) {
+        return levels.get(level);
+    }
+
+    /**
+     * Get the node on the level above which contains a node.
+     *
+     * @param level Level of the node
+     * @param node  Node to get the parent of
+     * @return Node on the level above, null if the node is removed or on the last level
+     */
+    public DefaultNode getParent(final int level, final DefaultNode node) {
+
+        if (level >= parents.size()) {
+            return null;
+        }
+        return parents.get(level).get(node);
+
+    }
+
+    /**
+     * Get the nodes on the level below which a node contains.
+     *
+     * @param level Level of the node
+     * @param node  Node to get the children of
+     * @return Nodes on the level below, empty on the first level
+     */
+    public List<DefaultNode> getChildren(final int level, final DefaultNode node) {
+
+        if (level == 0) {
+            return Collections.emptyList();
+        }
+        return children.get(level - 1).getOrDefault(node, Collections.emptyList());
+
+    }
+
+}
@@ -39,6 +39,7 @@ public final class NewickParser extends Parser<Newick> {
         newick.setRoot(root);
         newick.addVertex(root);
         getOffspring(nwkTree.getRoot(), root, newick);
+        countRecords(nwkTree.nodes.size());
 
         return newick;
     }
@@ -4,6 +4,8 @@ import org.junit.Test;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -39,6 +41,49 @@ public class ParserTest {
 
     }
 
+    class LineParser extends Parser<Integer> {
+
+        @Override
+        protected Integer parse(BufferedReader... file) {
+            int lines = 0;
+            try {
+                while (!isCancelled() && file[0].readLine() != null) {
+                    countRecords(1);
+                    lines++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return lines;
+        }
+    }
+
+    @Test
+    public void testProgress() throws Exception {
+        File file = new File(getClass().getResource("/newick/10strains.nwk").getPath());
+        LineParser p = new LineParser();
+        p.setFiles(file);
+
+        assertEquals(file.length(), p.getTotalBytes());
+        assertEquals(0, p.getBytesRead());
+
+        int lines = p.load();
+
+        assertEquals(file.length(), p.getBytesRead());
+        assertEquals(lines, p.getRecordsRead());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        LineParser p = new LineParser();
+        p.setFiles(new File(getClass().getResource("/newick/10strains.nwk").getPath()));
+
+        p.cancel();
+
+        assertEquals(0, (int) p.load());
+        assertEquals(0, p.getRecordsRead());
+    }
+
     @Test
     public void testParse() throws Exception {
         MyParser p = new MyParser();
@@ -4,6 +4,10 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Jasper Nieuwdorp
@@ -30,4 +34,61 @@ public class CodingSequenceMapTest {
     public void test() throws Exception {
         // ???
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that the annotations overlapping a range are found in order of ref start.
+     */
+    @Test
+    public void testAnnotationsBetween() {
+
+        assertEquals(Collections.singletonList(codingSequence1), codingSequenceMap1.annotationsBetween(1, 1));
+        assertEquals(Arrays.asList(codingSequence1, codingSequence2), codingSequenceMap1.annotationsBetween(1, 2));
+        assertEquals(Arrays.asList(codingSequence1, codingSequence2), codingSequenceMap1.annotationsBetween(-5, 10));
+        assertEquals(Collections.emptyList(), codingSequenceMap1.annotationsBetween(4, 10));
+
+    }
+
+    /**
+     * Test that annotations spanning the whole range are found.
+     */
+    @Test
+    public void testAnnotationsSpanning() {
+
+        CodingSequence gene = new CodingSequence("seqId2", "source", "type", 10, 100, 0f, '+', '.', "gene");
+        CodingSequence inner = new CodingSequence("seqId3", "source", "type", 40, 45, 0f, '+', '.', "inner");
+        CodingSequence after = new CodingSequence("seqId4", "source", "type", 60, 70, 0f, '+', '.', "after");
+        CodingSequenceMap map = new CodingSequenceMap(Arrays.asList(
+                after, codingSequence1, gene, inner, codingSequence2));
+
+        assertEquals(Collections.singletonList(gene), map.annotationsBetween(50, 55));
+        assertEquals(Arrays.asList(gene, inner), map.annotationsBetween(42, 43));
+        assertEquals(Arrays.asList(gene, after), map.annotationsBetween(65, 200));
+        assertEquals(Collections.emptyList(), map.annotationsBetween(101, 200));
+
+    }
+
+    /**
+     * Test that the annotations of many ranges at once are the same as when asked one by one.
+     */
+    @Test
+    public void testAnnotationsBetweenRanges() {
+
+        CodingSequence gene = new CodingSequence("seqId2", "source", "type", 10, 100, 0f, '+', '.', "gene");
+        CodingSequence inner = new CodingSequence("seqId3", "source", "type", 40, 45, 0f, '+', '.', "inner");
+        CodingSequence after = new CodingSequence("seqId4", "source", "type", 60, 70, 0f, '+', '.', "after");
+        CodingSequenceMap map = new CodingSequenceMap(Arrays.asList(
+                after, codingSequence1, gene, inner, codingSequence2));
+
+        int[] refStarts = {65, 1, 42, 101, 50, -5, 1, 44};
+        int[] refEnds = {200, 1, 43, 200, 55, 10, 2, 61};
+
+        List<List<CodingSequence>> annotations = map.annotationsBetween(refStarts, refEnds);
+
+        assertEquals(refStarts.length, annotations.size());
+        for (int i = 0; i < refStarts.length; i++) {
+            assertEquals(map.annotationsBetween(refStarts[i], refEnds[i]), annotations.get(i));
+        }
+
+    }
+
+}
@@ -8,8 +8,10 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Jasper on 21-5-2015.
@@ -77,4 +79,51 @@ public class CodingSequenceParserTest {
         CodingSequenceMap map = codingSequenceParser.parse(bufferedReader);
         assertEquals(0, map.annotationsByStart.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Comment and directive lines must be skipped and the sequences after the FASTA directive not read.
+     *
+     * @throws FileNotFoundException Shouldn't happen though.
+     */
+    @Test
+    public void testParseGff3() throws FileNotFoundException {
+        File file = new File(CodingSequenceParserTest.class.getResource("/annotation/test.gff3.gff").getPath());
+        CodingSequenceMap map = codingSequenceParser.parse(new BufferedReader(new FileReader(file)));
+
+        assertEquals(2, map.getAnnotations().size());
+        assertEquals(new CodingSequence("seqId", "source", "CDS", 0, 1, 0f, '+', '0', "ID=1;Name=a"),
+                map.annotationsByStart.get(0).get(0));
+        assertEquals(new CodingSequence("seqId", "source", "CDS", 2, 3, 1f, '-', '.', "ID=2;Name=b\tc"),
+                map.annotationsByStart.get(2).get(0));
+    }
+
+    /**
+     * The repeated columns must be shared between the coding sequences.
+     *
+     * @throws FileNotFoundException Shouldn't happen though.
+     */
+    @Test
+    public void testInterned() throws FileNotFoundException {
+        File file = new File(CodingSequenceParserTest.class.getResource("/annotation/test.gff3.gff").getPath());
+        List<CodingSequence> codingSequences = codingSequenceParser.parse(new BufferedReader(new FileReader(file)))
+                .getAnnotations();
+
+        assertSame(codingSequences.get(0).getSeqId(), codingSequences.get(1).getSeqId());
+        assertSame(codingSequences.get(0).getSource(), codingSequences.get(1).getSource());
+        assertSame(codingSequences.get(0).getType(), codingSequences.get(1).getType());
+    }
+
+    /**
+     * A gzip compressed file must result in the same coding sequences.
+     *
+     * @throws Exception Shouldn't happen though.
+     */
+    @Test
+    public void testGzip() throws Exception {
+        File file = new File(CodingSequenceParserTest.class.getResource("/annotation/test.gff3.gff").getPath());
+        File gzipFile = new File(CodingSequenceParserTest.class.getResource("/annotation/test.gff3.gff.gz").getPath());
+
+        assertEquals(new CodingSequenceParser().setFiles(file).load().getAnnotations(),
+                new CodingSequenceParser().setFiles(gzipFile).load().getAnnotations());
+    }
+}
@@ -6,6 +6,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Jasper on 26-5-2015.
@@ -33,4 +36,16 @@ public class ResistanceMapTest {
         // ???
     }
 
-}
\ No newline at end of file
+    /**
+     * The builder must create a map with the resistances added, also after building once.
+     */
+    @Test
+    public void testBuilder() {
+        ResistanceMap.Builder builder = new ResistanceMap.Builder().add(resistance1);
+        assertEquals(Collections.singletonList(resistance1), builder.build().getAnnotations());
+
+        builder.add(resistance2);
+        assertEquals(Arrays.asList(resistance1, resistance2), builder.build().getAnnotations());
+    }
+
+}
@@ -10,6 +10,7 @@ import java.io.FileReader;
 import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -88,6 +89,40 @@ public class ResistanceParserTest {
         assertEquals(0, map.annotationsByStart.size());
     }
 
+    /**
+     * All catalogues must be read into one map.
+     *
+     * @throws Exception Shouldn't happen though.
+     */
+    @Test
+    public void testParseCatalogues() throws Exception {
+        File resistanceFile3 = new File(ResistanceParserTest.class.getResource("/annotation/test3.cs.txt").getPath());
+        ResistanceMap map = resistanceParser.setFiles(resistanceFile, resistanceFile2, resistanceFile3).load();
+
+        assertEquals(Arrays.asList(resistance1, resistance2,
+                new Resistance("geneName2", "SNP", "A12T", "PASS", 12, "isoniazid")), map.getAnnotations());
+    }
+
+    /**
+     * A line without a position or drug is not a resistance.
+     *
+     * @throws ResistanceFormatException Missing fields = exception!
+     */
+    @Test(expected = ResistanceFormatException.class)
+    public void testExceptionNoPosition() throws Exception {
+        resistanceParser.getResistance("geneName:TypeOfMutation,change,filter,\tR");
+    }
+
+    /**
+     * Only a file starting with a header line is a catalogue.
+     */
+    @Test
+    public void testIsCatalogue() {
+        assertTrue(ResistanceParser.isCatalogue(resistanceFile));
+        assertFalse(ResistanceParser.isCatalogue(resistanceFile2));
+        assertFalse(ResistanceParser.isCatalogue(new File("missing.txt")));
+    }
+
     @Test
     public void testGetDrugName() {
         assertEquals(resistanceParser.getDrugName("R"), "rifampicin");
@@ -109,4 +109,36 @@ public class BaseCounterTest {
 
     }
 
+    @Test
+    public void testAddBaseCounter() throws Exception {
+        BaseCounter baseCounter = new BaseCounter();
+        baseCounter.addBaseCounter(baseCounter1);
+        baseCounter.addBaseCounter(baseCounter2);
+
+        assertEquals(22, baseCounter.size());
+        assertEquals(13, baseCounter.getCount('A'));
+        assertEquals(3, baseCounter.getCount('G'));
+        assertEquals(0, baseCounter.getCount('N'));
+    }
+
+    @Test
+    public void testOtherCharacters() throws Exception {
+        BaseCounter baseCounter = new BaseCounter("ARYa");
+
+        assertEquals(4, baseCounter.size());
+        assertEquals(1, baseCounter.getCount('A'));
+        assertEquals(0, baseCounter.getCount('R'));
+        assertEquals(0.25f, baseCounter.getRatio('A'), 0.E-4f);
+    }
+
+    @Test
+    public void testAddOtherCharacters() throws Exception {
+        BaseCounter baseCounter = new BaseCounter();
+        baseCounter.addBaseCounter(new BaseCounter("ARYa"));
+
+        assertEquals(1, baseCounter.size());
+        assertEquals(1, baseCounter.getCount('A'));
+        assertEquals(1f, baseCounter.getRatio('A'), 0.E-4f);
+    }
+
 }
@@ -0,0 +1,128 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ByteScannerTest {
+
+    /**
+     * Create a scanner on a string.
+     *
+     * @param input Input of the scanner
+     * @return Scanner on the input
+     */
+    private static ByteScanner scanner(final String input) {
+        return new ByteScanner(ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Test parsing numbers.
+     */
+    @Test
+    public void testNextInt() {
+
+        ByteScanner sc = scanner("12  -3\n 0");
+
+        assertEquals(12, sc.nextInt());
+        assertEquals(-3, sc.nextInt());
+        assertEquals(0, sc.nextInt());
+        assertFalse(sc.hasNext());
+
+    }
+
+    /**
+     * Test parsing a non number.
+     */
+    @Test(expected = InputMismatchException.class)
+    public void testNextIntMismatch() {
+
+        scanner("A").nextInt();
+
+    }
+
+    /**
+     * Test skipping characters.
+     */
+    @Test
+    public void testSkip() {
+
+        ByteScanner sc = scanner(">0 | 1");
+
+        sc.skip('>');
+        assertEquals(0, sc.nextInt());
+        sc.skip('|');
+        assertFalse(sc.skipIf('|'));
+        assertEquals(1, sc.nextInt());
+
+    }
+
+    /**
+     * Test that equal names are interned.
+     */
+    @Test
+    public void testNextName() {
+
+        ByteScanner sc = scanner("Cat,Dog Cat");
+
+        String cat = sc.nextName();
+        assertEquals("Cat", cat);
+        assertTrue(sc.skipIf(','));
+        assertEquals("Dog", sc.nextName());
+        assertSame(cat, sc.nextName());
+
+    }
+
+    /**
+     * Test interning more names than the initial table size.
+     */
+    @Test
+    public void testManyNames() {
+
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            input.append("strain").append(i).append(' ');
+        }
+        ByteScanner sc = scanner(input.toString());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("strain" + i, sc.nextName());
+        }
+
+    }
+
+    /**
+     * Test reading a token larger than the channel buffer.
+     */
+    @Test
+    public void testLongTokenFromChannel() {
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            content.append("ACGT".charAt(i % 4));
+        }
+        ByteScanner sc = new ByteScanner(Channels.newChannel(new ByteArrayInputStream(
+                ("1 " + content + " 2").getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(1, sc.nextInt());
+        assertEquals(content.toString(), sc.nextToken());
+        assertEquals(2, sc.nextInt());
+        assertFalse(sc.hasNext());
+
+    }
+
+}
@@ -0,0 +1,134 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ChannelGraphParserTest {
+
+    /**
+     * Names of the test graphs.
+     */
+    protected static final List<String> GRAPHS = Arrays.asList(
+            "base-length-graph",
+            "collapse-graph",
+            "insert-delete-graph",
+            "single-point-mutation",
+            "unknown-graph-outer",
+            "unknown-graph"
+    );
+
+    /**
+     * Get a test resource.
+     *
+     * @param name Name of the resource
+     * @return The resource file
+     */
+    protected static File resource(final String name) {
+        return new File(ChannelGraphParserTest.class.getResource("/graph/" + name).getPath());
+    }
+
+    /**
+     * Assert that two graph maps contain the same nodes and edges.
+     *
+     * @param expected Expected graph map
+     * @param actual   Actual graph map
+     */
+    protected static void assertGraphMapEquals(final GraphMap expected, final GraphMap actual) {
+
+        assertEquals(expected.keySet(), actual.keySet());
+
+        expected.forEach((source, graph) -> {
+            Graph other = actual.get(source);
+
+            Map<DefaultNode, DefaultNode> nodes = new HashMap<>();
+            other.vertexSet().forEach(node -> nodes.put(node, node));
+            assertEquals(graph.vertexSet(), other.vertexSet());
+            graph.vertexSet().forEach(node -> {
+                DefaultNode otherNode = nodes.get(node);
+                assertEquals(node.getContent(), otherNode.getContent());
+                assertEquals(node.getSources(), otherNode.getSources());
+                assertEquals(node.getRefStartPosition(), otherNode.getRefStartPosition());
+                assertEquals(node.getRefEndPosition(), otherNode.getRefEndPosition());
+            });
+
+            assertEquals(edges(graph), edges(other));
+        });
+
+    }
+
+    /**
+     * Get the edges of a graph as a list of source and target.
+     *
+     * @param graph Graph to get the edges from
+     * @return Source and target of all edges
+     */
+    private static List<List<DefaultNode>> edges(final Graph graph) {
+        return graph.edgeSet().stream()
+                .map(edge -> Arrays.asList(graph.getEdgeSource(edge), graph.getEdgeTarget(edge)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Test if the parsed graph maps are equal to the graph maps of the GraphParser.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testEqualToGraphParser() throws IOException {
+
+        for (String name : GRAPHS) {
+            File nodeFile = resource(name + ".node.graph");
+            File edgeFile = resource(name + ".edge.graph");
+
+            assertGraphMapEquals(
+                    new GraphParser().setFiles(nodeFile, edgeFile).load(),
+                    new ChannelGraphParser().setFiles(nodeFile, edgeFile).load()
+            );
+        }
+
+    }
+
+    /**
+     * Test the graph without extension.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testGraph() throws IOException {
+
+        GraphMap graphMap = new ChannelGraphParser().setFiles(resource("node.graph"), resource("edge.graph")).load();
+
+        assertEquals(2, graphMap.size());
+        assertEquals(3, graphMap.get("Cat").vertexSet().size());
+        assertEquals(2, graphMap.get("Cat").edgeSet().size());
+
+    }
+
+    /**
+     * Test that a missing file is reported when setting the files.
+     *
+     * @throws IOException Expected
+     */
+    @Test(expected = FileNotFoundException.class)
+    public void testFileNotFound() throws IOException {
+
+        new ChannelGraphParser().setFiles(new File("not.node.graph"), new File("not.edge.graph"));
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class CsrGraphTest {
+
+    Graph graph;
+    CsrGraph<DefaultNode> csr;
+
+    Node node1 = new Node(0, new HashSet<>(Arrays.asList("Cat", "Dog")), 5, 7, "A");
+    Node node2 = new Node(1, new HashSet<>(Collections.singletonList("Dog")), 7, 10, "C");
+    Node node3 = new Node(2, new HashSet<>(Collections.singletonList("Cat")), 7, 10, "G");
+    Node node4 = new Node(3, new HashSet<>(Arrays.asList("Cat", "Dog")), 10, 13, "T");
+
+    /**
+     * Create a bubble graph and its compressed copy.
+     */
+    @Before
+    public void setUp() {
+
+        graph = new Graph();
+        graph.addVertex(node1);
+        graph.addVertex(node2);
+        graph.addVertex(node3);
+        graph.addVertex(node4);
+        graph.setEdgeWeight(graph.addEdge(node1, node2), 1);
+        graph.setEdgeWeight(graph.addEdge(node1, node3), 2);
+        graph.setEdgeWeight(graph.addEdge(node2, node4), 3);
+        graph.setEdgeWeight(graph.addEdge(node3, node4), 4);
+
+        csr = new CsrGraph<>(graph);
+
+    }
+
+    /**
+     * Get the id of a node in the compressed graph.
+     *
+     * @param node Node to find
+     * @return Id of the node
+     */
+    private int idOf(final DefaultNode node) {
+
+        for (int id = 0; id < csr.size(); id++) {
+            if (csr.nodeOf(id) == node) {
+                return id;
+            }
+        }
+        return -1;
+
+    }
+
+    /**
+     * The compressed graph has the same nodes and edges, with ids in the order of the vertex set.
+     */
+    @Test
+    public void testSize() {
+
+        assertEquals(4, csr.size());
+        assertEquals(4, csr.edgeCount());
+
+        int id = 0;
+        for (DefaultNode node : graph.vertexSet()) {
+            assertSame(node, csr.nodeOf(id++));
+        }
+
+    }
+
+    /**
+     * Targets, sources and degrees equal those of the graph.
+     */
+    @Test
+    public void testAdjacency() {
+
+        for (DefaultNode node : graph.vertexSet()) {
+            final int id = idOf(node);
+
+            List<DefaultNode> targets = new ArrayList<>();
+            for (int edge = csr.targetStart(id); edge < csr.targetEnd(id); edge++) {
+                targets.add(csr.nodeOf(csr.target(edge)));
+            }
+            List<DefaultNode> sources = new ArrayList<>();
+            for (int edge = csr.sourceStart(id); edge < csr.sourceEnd(id); edge++) {
+                sources.add(csr.nodeOf(csr.source(edge)));
+            }
+
+            assertEquals(graph.getTargets(node), targets);
+            assertEquals(graph.getSources(node), sources);
+            assertEquals(graph.inDegreeOf(node), csr.inDegree(id));
+            assertEquals(graph.outDegreeOf(node), csr.outDegree(id));
+        }
+
+    }
+
+    /**
+     * Weights are stored for both directions.
+     */
+    @Test
+    public void testWeights() {
+
+        int id1 = idOf(node1);
+        int id3 = idOf(node3);
+        int id4 = idOf(node4);
+
+        assertEquals(2, csr.getEdgeWeight(id1, id3), 0);
+        assertTrue(Double.isNaN(csr.getEdgeWeight(id1, id4)));
+
+        double outgoing = 0;
+        for (int edge = csr.targetStart(id1); edge < csr.targetEnd(id1); edge++) {
+            outgoing += csr.targetWeight(edge);
+        }
+        assertEquals(3, outgoing, 0);
+
+        double incoming = 0;
+        for (int edge = csr.sourceStart(id4); edge < csr.sourceEnd(id4); edge++) {
+            incoming += csr.sourceWeight(edge);
+        }
+        assertEquals(7, incoming, 0);
+
+    }
+
+}
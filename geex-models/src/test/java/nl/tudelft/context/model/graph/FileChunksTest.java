@@ -0,0 +1,86 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class FileChunksTest {
+
+    /**
+     * Test that chunks of the node file start at a node.
+     *
+     * @throws IOException Test file not found
+     */
+    @Test
+    public void testNodeChunks() throws IOException {
+
+        File file = ChannelGraphParserTest.resource("node.graph");
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            List<MappedByteBuffer> chunks = FileChunks.map(channel, 1, '>');
+
+            assertEquals(4, chunks.size());
+            long size = 0;
+            for (MappedByteBuffer chunk : chunks) {
+                assertEquals('>', chunk.get(0));
+                size += chunk.remaining();
+            }
+            assertEquals(channel.size(), size);
+        }
+
+    }
+
+    /**
+     * Test that chunks of the edge file start at a line.
+     *
+     * @throws IOException Test file not found
+     */
+    @Test
+    public void testLineChunks() throws IOException {
+
+        File file = ChannelGraphParserTest.resource("edge.graph");
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            List<MappedByteBuffer> chunks = FileChunks.map(channel, 1, (char) 0);
+
+            StringBuilder content = new StringBuilder();
+            for (MappedByteBuffer chunk : chunks) {
+                byte[] bytes = new byte[chunk.remaining()];
+                chunk.get(bytes);
+                String line = new String(bytes, StandardCharsets.US_ASCII);
+                assertTrue(line.trim().indexOf('\n') == -1);
+                content.append(line);
+            }
+            assertEquals(channel.size(), content.length());
+        }
+
+    }
+
+    /**
+     * Test that one chunk is created when the chunk size is larger than the file.
+     *
+     * @throws IOException Test file not found
+     */
+    @Test
+    public void testSingleChunk() throws IOException {
+
+        File file = ChannelGraphParserTest.resource("node.graph");
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            assertEquals(1, FileChunks.map(channel, Integer.MAX_VALUE, '>').size());
+        }
+
+    }
+
+}
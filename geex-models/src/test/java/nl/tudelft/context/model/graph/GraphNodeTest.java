@@ -1,6 +1,7 @@
 package nl.tudelft.context.model.graph;
 
 import de.saxsys.javafx.test.JfxRunner;
+import nl.tudelft.context.model.annotation.Resistance;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -9,12 +10,14 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author René Vennik
@@ -57,4 +60,75 @@ public class GraphNodeTest {
         assertEquals(nodes, graphNode.getNodes());
 
     }
+
+    /**
+     * Test that the resistances of the nodes are collected once, without duplicates.
+     */
+    @Test
+    public void testResistances() {
+
+        Resistance resistance1 = new Resistance("lorem", "ipsum", "Q264P", "dolor", 1, "set");
+        Resistance resistance2 = new Resistance("set", "amet", "-11", "consecteur", 2, "adipiscing");
+        Resistance resistance3 = new Resistance("sit", "amet", "-12", "consecteur", 3, "adipiscing");
+
+        Node start = new Node(10, new HashSet<>(Collections.singletonList("Cat")), 1, 2, "A");
+        Node part = new Node(11, new HashSet<>(Collections.singletonList("Cat")), 2, 3, "C");
+        Node end = new Node(12, new HashSet<>(Collections.singletonList("Cat")), 3, 4, "G");
+        start.resistance = Collections.singletonList(resistance1);
+        part.resistance = Arrays.asList(resistance1, resistance2);
+        end.resistance = Collections.singletonList(resistance3);
+
+        Graph subGraph = new Graph();
+        subGraph.addVertex(start);
+        subGraph.addVertex(part);
+        subGraph.addVertex(end);
+        subGraph.addEdge(start, part);
+        subGraph.addEdge(part, end);
+
+        GraphNode node = new GraphNode(subGraph, start, end, "collapse");
+
+        assertEquals(new HashSet<>(Arrays.asList(resistance1, resistance2)), new HashSet<>(node.getResistances()));
+        assertEquals(2, node.getResistances().size());
+        assertSame(node.getResistances(), node.getResistances());
+        assertEquals(Collections.emptyList(), node.getCodingSequences());
+
+        node.addNode(end);
+
+        assertEquals(new HashSet<>(Arrays.asList(resistance1, resistance2, resistance3)),
+                new HashSet<>(node.getResistances()));
+
+    }
+
+    /**
+     * Test that the properties of the nodes from start until end are collected.
+     */
+    @Test
+    public void testProperties() {
+
+        Node start = new Node(10, new HashSet<>(Collections.singletonList("Cat")), 5, 6, "A");
+        Node upper = new Node(11, new HashSet<>(Collections.singletonList("Cat")), 6, 8, "CC");
+        Node lower = new Node(12, new HashSet<>(Collections.singletonList("Dog")), 2, 3, "G");
+        Node end = new Node(13, new HashSet<>(Arrays.asList("Cat", "Dog")), 9, 10, "T");
+
+        Graph subGraph = new Graph();
+        subGraph.addVertex(start);
+        subGraph.addVertex(upper);
+        subGraph.addVertex(lower);
+        subGraph.addVertex(end);
+        subGraph.addEdge(start, upper);
+        subGraph.addEdge(start, lower);
+        subGraph.addEdge(upper, end);
+        subGraph.addEdge(lower, end);
+
+        GraphNode node = new GraphNode(subGraph, start, end, "single");
+
+        assertEquals(new HashSet<>(Arrays.asList(start, upper, lower)), node.getNodes());
+        assertEquals(new HashSet<>(Arrays.asList("Cat", "Dog")), node.getSources());
+        assertEquals(2, node.getRefStartPosition());
+        assertEquals(8, node.getRefEndPosition());
+        assertEquals(4, node.getBaseCounter().size());
+        assertEquals(3, node.getSize());
+
+    }
+
 }
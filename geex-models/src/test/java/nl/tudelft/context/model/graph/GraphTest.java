@@ -1,5 +1,7 @@
 package nl.tudelft.context.model.graph;
 
+import nl.tudelft.context.model.annotation.CodingSequence;
+import nl.tudelft.context.model.annotation.CodingSequenceMap;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -111,4 +113,29 @@ public class GraphTest {
 
     }
 
+    /**
+     * Test that the nodes of all sources are annotated once, with the annotations overlapping them.
+     *
+     * @throws FileNotFoundException
+     */
+    @Test
+    public void testSetCodingSequence() throws FileNotFoundException, UnsupportedEncodingException {
+
+        File nodeFile = new File(GraphTest.class.getResource("/graph/node.graph").getPath());
+        File edgeFile = new File(GraphTest.class.getResource("/graph/edge.graph").getPath());
+        GraphMap graphMap = new GraphParser().setFiles(nodeFile, edgeFile).load();
+
+        CodingSequence codingSequence = new CodingSequence("seqId", "source", "type", 6, 8, 0f, '+', '.', "gene");
+        graphMap.setCodingSequence(new CodingSequenceMap(Collections.singletonList(codingSequence)));
+
+        graphMap.values().forEach(source -> source.vertexSet().forEach(node -> assertEquals(
+                node.getRefStartPosition() <= 8 && node.getRefEndPosition() >= 6,
+                node.getCodingSequences().contains(codingSequence))));
+        assertEquals(Collections.singletonList(codingSequence),
+                graphMap.get("Cat").vertexSet().stream()
+                        .filter(node1::equals)
+                        .findFirst().get().getCodingSequences());
+
+    }
+
 }
@@ -0,0 +1,58 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class MappedGraphParserTest {
+
+    /**
+     * Test if the parsed graph maps are equal to the graph maps of the GraphParser.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testEqualToGraphParser() throws IOException {
+
+        for (String name : ChannelGraphParserTest.GRAPHS) {
+            File nodeFile = ChannelGraphParserTest.resource(name + ".node.graph");
+            File edgeFile = ChannelGraphParserTest.resource(name + ".edge.graph");
+
+            ChannelGraphParserTest.assertGraphMapEquals(
+                    new GraphParser().setFiles(nodeFile, edgeFile).load(),
+                    new MappedGraphParser().setFiles(nodeFile, edgeFile).load()
+            );
+        }
+
+    }
+
+    /**
+     * Test that the content of the nodes is not copied from the file.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testLazyContent() throws IOException {
+
+        GraphMap graphMap = new MappedGraphParser().setFiles(
+                ChannelGraphParserTest.resource("node.graph"),
+                ChannelGraphParserTest.resource("edge.graph")
+        ).load();
+
+        graphMap.get("Cat").vertexSet().forEach(node -> {
+            assertTrue(node.content instanceof MappedSequence);
+            assertEquals(node.getContent().length(), node.getContentLength());
+        });
+
+    }
+
+}
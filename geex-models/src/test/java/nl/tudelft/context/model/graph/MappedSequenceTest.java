@@ -0,0 +1,82 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class MappedSequenceTest {
+
+    MappedSequence sequence;
+
+    /**
+     * Create a sequence in the middle of a buffer.
+     */
+    @Before
+    public void setUp() {
+
+        ByteBuffer buffer = ByteBuffer.wrap("xxACGTNyy".getBytes(StandardCharsets.US_ASCII));
+        sequence = new MappedSequence(buffer, 2, 5);
+
+    }
+
+    /**
+     * Test the length of the sequence.
+     */
+    @Test
+    public void testLength() {
+
+        assertEquals(5, sequence.length());
+
+    }
+
+    /**
+     * Test getting single characters.
+     */
+    @Test
+    public void testCharAt() {
+
+        assertEquals('A', sequence.charAt(0));
+        assertEquals('N', sequence.charAt(4));
+
+    }
+
+    /**
+     * Test that characters outside the sequence can not be read.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCharAtOutOfBounds() {
+
+        sequence.charAt(5);
+
+    }
+
+    /**
+     * Test a part of the sequence.
+     */
+    @Test
+    public void testSubSequence() {
+
+        assertEquals("CGT", sequence.subSequence(1, 4).toString());
+
+    }
+
+    /**
+     * Test the sequence as String.
+     */
+    @Test
+    public void testToString() {
+
+        assertEquals("ACGTN", sequence.toString());
+
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.Scanner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author René Vennik
@@ -33,6 +34,18 @@ public class NodeTest {
 
     }
 
+    /**
+     * Nodes with the same sources share the interned source set.
+     */
+    @Test
+    public void testSourcesInterned() {
+
+        Node node = new Node(2, new HashSet<>(Arrays.asList("Dog", "Cat")), 0, 0, "");
+
+        assertSame(node1.getSources(), node.getSources());
+
+    }
+
     /**
      * Test node1 id.
      */
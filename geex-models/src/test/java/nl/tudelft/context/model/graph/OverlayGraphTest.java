@@ -0,0 +1,211 @@
+package nl.tudelft.context.model.graph;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class OverlayGraphTest {
+
+    Graph parent;
+    OverlayGraph overlay;
+
+    Node node1 = new Node(0, new HashSet<>(Arrays.asList("Cat", "Dog")), 5, 7, "A");
+    Node node2 = new Node(1, new HashSet<>(Collections.singletonList("Dog")), 7, 10, "C");
+    Node node3 = new Node(2, new HashSet<>(Collections.singletonList("Cat")), 7, 10, "G");
+    Node node4 = new Node(3, new HashSet<>(Arrays.asList("Cat", "Dog")), 10, 13, "T");
+
+    /**
+     * Create a bubble graph with an overlay.
+     */
+    @Before
+    public void setUp() {
+
+        parent = new Graph();
+        parent.addVertex(node1);
+        parent.addVertex(node2);
+        parent.addVertex(node3);
+        parent.addVertex(node4);
+        parent.setEdgeWeight(parent.addEdge(node1, node2), 1);
+        parent.setEdgeWeight(parent.addEdge(node1, node3), 2);
+        parent.setEdgeWeight(parent.addEdge(node2, node4), 3);
+        parent.setEdgeWeight(parent.addEdge(node3, node4), 4);
+
+        overlay = new OverlayGraph(parent);
+
+    }
+
+    /**
+     * Without changes the overlay equals the parent.
+     */
+    @Test
+    public void testShared() {
+
+        assertEquals(parent.vertexSet(), overlay.vertexSet());
+        assertEquals(parent.edgeSet(), overlay.edgeSet());
+        assertEquals(Arrays.asList(node2, node3), overlay.getTargets(node1));
+        assertEquals(2, overlay.inDegreeOf(node4));
+
+    }
+
+    /**
+     * Removing a node hides it and its edges, without changing the parent.
+     */
+    @Test
+    public void testRemoveVertex() {
+
+        assertTrue(overlay.removeVertex(node2));
+
+        assertFalse(overlay.containsVertex(node2));
+        assertEquals(3, overlay.vertexSet().size());
+        assertEquals(2, overlay.edgeSet().size());
+        assertEquals(Collections.singletonList(node3), overlay.getTargets(node1));
+        assertEquals(1, overlay.inDegreeOf(node4));
+        assertNull(overlay.getEdge(node1, node2));
+
+        assertEquals(4, parent.vertexSet().size());
+        assertEquals(2, parent.outDegreeOf(node1));
+
+    }
+
+    /**
+     * Added edges and changed weights are only in the overlay.
+     */
+    @Test
+    public void testAddEdge() {
+
+        DefaultWeightedEdge edge = overlay.addEdge(node1, node4);
+        overlay.setEdgeWeight(edge, 5);
+        overlay.setEdgeWeight(overlay.getEdge(node1, node2), 6);
+
+        assertNull(overlay.addEdge(node1, node2));
+        assertEquals(5, overlay.getEdgeWeight(overlay.getEdge(node1, node4)), 0);
+        assertEquals(6, overlay.getEdgeWeight(overlay.getEdge(node1, node2)), 0);
+        assertEquals(Arrays.asList(node2, node3, node4), overlay.getTargets(node1));
+        assertEquals(5, overlay.edgeSet().size());
+
+        assertFalse(parent.containsEdge(node1, node4));
+        assertEquals(1, parent.getEdgeWeight(parent.getEdge(node1, node2)), 0);
+
+    }
+
+    /**
+     * An edge object can be added, a removed parent edge is shown again.
+     */
+    @Test
+    public void testAddEdgeObject() {
+
+        DefaultWeightedEdge edge = new DefaultWeightedEdge();
+        DefaultWeightedEdge parentEdge = overlay.getEdge(node1, node2);
+
+        assertTrue(overlay.addEdge(node1, node4, edge));
+        assertFalse(overlay.addEdge(node1, node4, new DefaultWeightedEdge()));
+        assertEquals(edge, overlay.getEdge(node1, node4));
+        assertEquals(Arrays.asList(node2, node3, node4), overlay.getTargets(node1));
+
+        overlay.removeEdge(parentEdge);
+        assertFalse(overlay.addEdge(node2, node4, parentEdge));
+        assertTrue(overlay.addEdge(node1, node2, parentEdge));
+        assertEquals(parentEdge, overlay.getEdge(node1, node2));
+        assertFalse(parent.containsEdge(node1, node4));
+
+    }
+
+    /**
+     * The edges of a node are shared with the parent until they change.
+     */
+    @Test
+    public void testCachedEdges() {
+
+        assertSame(parent.outgoingEdgesOf(node1), overlay.outgoingEdgesOf(node1));
+        assertSame(overlay.outgoingEdgesOf(node1), overlay.outgoingEdgesOf(node1));
+
+        overlay.addEdge(node1, node4);
+        assertEquals(3, overlay.outDegreeOf(node1));
+        assertEquals(3, overlay.inDegreeOf(node4));
+
+        overlay.removeVertex(node4);
+        assertEquals(2, overlay.outDegreeOf(node1));
+        assertEquals(0, overlay.outDegreeOf(node2));
+        assertEquals(2, parent.inDegreeOf(node4));
+
+    }
+
+    /**
+     * Replacing a node moves the edges to the new node.
+     */
+    @Test
+    public void testReplace() {
+
+        Node node5 = new Node(4, new HashSet<>(Collections.singletonList("Dog")), 7, 10, "CC");
+        overlay.replace(node2, node5);
+
+        assertTrue(overlay.containsVertex(node5));
+        assertFalse(overlay.containsVertex(node2));
+        assertEquals(Arrays.asList(node3, node5), overlay.getTargets(node1));
+        assertEquals(3, overlay.getEdgeWeight(overlay.getEdge(node5, node4)), 0);
+        assertEquals(Arrays.asList(node2, node3), parent.getTargets(node1));
+
+    }
+
+    /**
+     * A removed node which is added again has no edges.
+     */
+    @Test
+    public void testReAddVertex() {
+
+        overlay.removeVertex(node2);
+        assertTrue(overlay.addVertex(node2));
+        assertFalse(overlay.addVertex(node2));
+
+        assertEquals(4, overlay.vertexSet().size());
+        assertEquals(0, overlay.inDegreeOf(node2));
+        assertEquals(0, overlay.outDegreeOf(node2));
+
+    }
+
+    /**
+     * An overlay on an overlay only sees the changes of both.
+     */
+    @Test
+    public void testStacked() {
+
+        overlay.removeVertex(node2);
+        OverlayGraph top = new OverlayGraph(overlay);
+        top.removeEdge(top.getEdge(node1, node3));
+
+        assertEquals(1, top.edgeSet().size());
+        assertEquals(2, overlay.edgeSet().size());
+        assertEquals(Collections.singletonList(node1), top.getFirstNodes().subList(0, 1));
+
+    }
+
+    /**
+     * A deep clone of the overlay is a graph on its own.
+     */
+    @Test
+    public void testDeepClone() {
+
+        overlay.removeVertex(node3);
+        StackGraph clone = overlay.deepClone();
+
+        assertEquals(overlay.vertexSet(), clone.vertexSet());
+        assertEquals(2, clone.edgeSet().size());
+
+    }
+
+}
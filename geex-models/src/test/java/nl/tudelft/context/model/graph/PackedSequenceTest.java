@@ -0,0 +1,90 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class PackedSequenceTest {
+
+    /**
+     * Sequence with bases, unknown bases, IUPAC codes and more than one word.
+     */
+    static final String SEQUENCE = "ACGTTGCANNNNACGTRYACGTACGTACGTACGTACGTACGTNacgtGGGCCCAAATTT";
+
+    /**
+     * Test that a packed sequence is equal to the original sequence.
+     */
+    @Test
+    public void testToString() {
+
+        assertEquals(SEQUENCE, PackedSequence.pack(SEQUENCE).toString());
+
+    }
+
+    /**
+     * Test packing ASCII bytes.
+     */
+    @Test
+    public void testPackBytes() {
+
+        byte[] bytes = ("  " + SEQUENCE + " ").getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(SEQUENCE, PackedSequence.pack(bytes, 2, SEQUENCE.length()).toString());
+
+    }
+
+    /**
+     * Test the length of the sequence.
+     */
+    @Test
+    public void testLength() {
+
+        assertEquals(SEQUENCE.length(), PackedSequence.pack(SEQUENCE).length());
+        assertEquals(0, PackedSequence.pack("").length());
+
+    }
+
+    /**
+     * Test getting single characters.
+     */
+    @Test
+    public void testCharAt() {
+
+        PackedSequence sequence = PackedSequence.pack(SEQUENCE);
+        for (int i = 0; i < SEQUENCE.length(); i++) {
+            assertEquals(SEQUENCE.charAt(i), sequence.charAt(i));
+        }
+
+    }
+
+    /**
+     * Test that characters outside the sequence can not be read.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCharAtOutOfBounds() {
+
+        PackedSequence.pack("ACGT").charAt(4);
+
+    }
+
+    /**
+     * Test a part of the sequence.
+     */
+    @Test
+    public void testSubSequence() {
+
+        PackedSequence sequence = PackedSequence.pack(SEQUENCE);
+
+        assertEquals(SEQUENCE.substring(6, 20), sequence.subSequence(6, 20).toString());
+        assertEquals("", sequence.subSequence(3, 3).toString());
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ParallelGraphParserTest {
+
+    /**
+     * Test if the parsed graph maps are equal to the graph maps of the GraphParser.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testEqualToGraphParser() throws IOException {
+
+        for (String name : ChannelGraphParserTest.GRAPHS) {
+            File nodeFile = ChannelGraphParserTest.resource(name + ".node.graph");
+            File edgeFile = ChannelGraphParserTest.resource(name + ".edge.graph");
+
+            ChannelGraphParserTest.assertGraphMapEquals(
+                    new GraphParser().setFiles(nodeFile, edgeFile).load(),
+                    new ParallelGraphParser().setFiles(nodeFile, edgeFile).load()
+            );
+        }
+
+    }
+
+    /**
+     * Test with a chunk per record, so every node and edge is parsed in its own task.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testSmallChunks() throws IOException {
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (String name : ChannelGraphParserTest.GRAPHS) {
+            File nodeFile = ChannelGraphParserTest.resource(name + ".node.graph");
+            File edgeFile = ChannelGraphParserTest.resource(name + ".edge.graph");
+
+            ChannelGraphParserTest.assertGraphMapEquals(
+                    new GraphParser().setFiles(nodeFile, edgeFile).load(),
+                    new ParallelGraphParser(pool, 1).setFiles(nodeFile, edgeFile).load()
+            );
+        }
+        pool.shutdown();
+
+    }
+
+    /**
+     * Test the graph without extension.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testGraph() throws IOException {
+
+        GraphMap graphMap = new ParallelGraphParser(ForkJoinPool.commonPool(), 1).setFiles(
+                ChannelGraphParserTest.resource("node.graph"),
+                ChannelGraphParserTest.resource("edge.graph")
+        ).load();
+
+        assertEquals(2, graphMap.size());
+        assertEquals(3, graphMap.get("Cat").vertexSet().size());
+        assertEquals(2, graphMap.get("Cat").edgeSet().size());
+
+    }
+
+}
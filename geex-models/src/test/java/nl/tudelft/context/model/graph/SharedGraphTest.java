@@ -0,0 +1,238 @@
+package nl.tudelft.context.model.graph;
+
+import nl.tudelft.context.model.Parser;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class SharedGraphTest {
+
+    /**
+     * Flattening a single source results in the graph of that source.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testFlatSingleSource() throws IOException {
+
+        for (String name : ChannelGraphParserTest.GRAPHS) {
+            GraphMap expected = load(new GraphParser(), name);
+            GraphMap actual = load(new SharedGraphParser(), name);
+
+            assertNotNull(actual.getSharedGraph());
+            assertTrue(actual.isEmpty());
+            expected.forEach((source, graph) -> {
+                Graph flat = actual.flat(Collections.singleton(source));
+                assertEquals(graph.vertexSet(), flat.vertexSet());
+                assertEquals(edges(graph), edges(flat));
+            });
+        }
+
+    }
+
+    /**
+     * Flattening all sources gives the same edge weights as flattening the graph per source.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testFlatAllSources() throws IOException {
+
+        for (String name : ChannelGraphParserTest.GRAPHS) {
+            GraphMap expected = load(new GraphParser(), name);
+            GraphMap actual = load(new SharedGraphParser(), name);
+
+            Graph expectedFlat = expected.flat(expected.keySet());
+            Graph actualFlat = actual.flat(expected.keySet());
+
+            assertEquals(expectedFlat.vertexSet(), actualFlat.vertexSet());
+            assertEquals(edges(expectedFlat), edges(actualFlat));
+        }
+
+    }
+
+    /**
+     * Updating a flattened graph for added and removed sources equals flattening the new selection.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testFlatIncremental() throws IOException {
+
+        for (String name : ChannelGraphParserTest.GRAPHS) {
+            GraphMap graphMap = load(new SharedGraphParser(), name);
+            List<String> sources = new ArrayList<>(load(new GraphParser(), name).keySet());
+            Set<String> first = Collections.singleton(sources.get(0));
+            Set<String> all = new HashSet<>(sources);
+
+            FlatGraph graph = graphMap.flat(first);
+            assertSame(graph, graphMap.flat(graph, all, Collections.emptySet()));
+            assertFlatEquals(graphMap.flat(all), graph);
+
+            graphMap.flat(graph, Collections.emptySet(), first);
+            Set<String> rest = new HashSet<>(all);
+            rest.removeAll(first);
+            assertEquals(rest, graph.getSelection());
+            assertFlatEquals(graphMap.flat(rest), graph);
+        }
+
+    }
+
+    /**
+     * Updating a graph of graphs per source flattens the new selection.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testFlatIncrementalPerSource() throws IOException {
+
+        GraphMap graphMap = load(new GraphParser(), "collapse-graph");
+        Set<String> all = new HashSet<>(graphMap.keySet());
+        String source = all.iterator().next();
+
+        FlatGraph graph = graphMap.flat(all);
+        FlatGraph updated = graphMap.flat(graph, Collections.emptySet(), Collections.singleton(source));
+
+        assertFalse(updated.getSelection().contains(source));
+        assertFlatEquals(graphMap.flat(updated.getSelection()), updated);
+
+    }
+
+    /**
+     * An edge only has the sources both nodes have in common.
+     */
+    @Test
+    public void testEdgeSources() {
+
+        Node node1 = new Node(0, new HashSet<>(Arrays.asList("Cat", "Dog")), 5, 7, "A");
+        Node node2 = new Node(1, new HashSet<>(Collections.singletonList("Dog")), 7, 10, "C");
+
+        GraphMap graphMap = GraphMap.shared();
+        graphMap.addVertex(node1);
+        graphMap.addVertex(node2);
+        graphMap.addEdge(node1, node2);
+
+        SharedGraph graph = graphMap.getSharedGraph();
+        assertEquals(Collections.singleton("Dog"), graph.getEdgeSources(graph.getEdge(node1, node2)));
+
+        Graph flat = graphMap.flat(new HashSet<>(Arrays.asList("Cat", "Dog")));
+        assertEquals(0.5, flat.getEdgeWeight(flat.getEdge(node1, node2)), 0);
+        assertTrue(graphMap.flat(Collections.singleton("Cat")).edgeSet().isEmpty());
+
+    }
+
+    /**
+     * Updating after nodes are added to the shared graph finds the new nodes, and the edges of sources which did
+     * not change are weighed by the new selection.
+     */
+    @Test
+    public void testFlatIncrementalAddedNode() {
+
+        Node node1 = new Node(0, new HashSet<>(Arrays.asList("Cat", "Dog")), 5, 7, "A");
+        Node node2 = new Node(1, new HashSet<>(Arrays.asList("Cat", "Dog")), 7, 10, "C");
+
+        GraphMap graphMap = GraphMap.shared();
+        graphMap.addVertex(node1);
+        graphMap.addVertex(node2);
+        graphMap.addEdge(node1, node2);
+
+        FlatGraph graph = graphMap.flat(Collections.singleton("Cat"));
+
+        Node node3 = new Node(2, new HashSet<>(Collections.singletonList("Mouse")), 7, 10, "G");
+        graphMap.addVertex(node3);
+        graphMap.flat(graph, Collections.singleton("Mouse"), Collections.emptySet());
+
+        assertTrue(graph.containsVertex(node3));
+        assertEquals(0.5, graph.getEdgeWeight(graph.getEdge(node1, node2)), 0);
+
+    }
+
+    /**
+     * Setting the weight of an edge to the weight it has keeps the weight, like replacing a node does.
+     */
+    @Test
+    public void testFlatSetEdgeWeight() {
+
+        Node node1 = new Node(0, new HashSet<>(Arrays.asList("Cat", "Dog")), 5, 7, "A");
+        Node node2 = new Node(1, new HashSet<>(Collections.singletonList("Cat")), 7, 10, "C");
+        Node node3 = new Node(2, new HashSet<>(Collections.singletonList("Cat")), 7, 10, "G");
+
+        GraphMap graphMap = GraphMap.shared();
+        graphMap.addVertex(node1);
+        graphMap.addVertex(node2);
+        graphMap.addEdge(node1, node2);
+
+        FlatGraph graph = graphMap.flat(new HashSet<>(Arrays.asList("Cat", "Dog")));
+        graph.setEdgeWeight(graph.getEdge(node1, node2), graph.getEdgeWeight(graph.getEdge(node1, node2)));
+        assertEquals(0.5, graph.getEdgeWeight(graph.getEdge(node1, node2)), 0);
+
+        graph.replace(node2, node3);
+        assertEquals(0.5, graph.getEdgeWeight(graph.getEdge(node1, node3)), 0);
+
+    }
+
+    /**
+     * Assert that two flattened graphs have the same nodes and weighted edges.
+     *
+     * @param expected Expected graph
+     * @param actual   Actual graph
+     */
+    private static void assertFlatEquals(final Graph expected, final Graph actual) {
+
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(edges(expected), edges(actual));
+
+    }
+
+    /**
+     * Parse a test graph.
+     *
+     * @param parser Parser to use
+     * @param name   Name of the test graph
+     * @return The parsed graph map
+     * @throws IOException Test files not found
+     */
+    private static GraphMap load(final Parser<GraphMap> parser, final String name) throws IOException {
+
+        File nodeFile = ChannelGraphParserTest.resource(name + ".node.graph");
+        File edgeFile = ChannelGraphParserTest.resource(name + ".edge.graph");
+
+        return parser.setFiles(nodeFile, edgeFile).load();
+
+    }
+
+    /**
+     * Get the edges of a graph with their weight.
+     *
+     * @param graph Graph to get the edges from
+     * @return Weight by source and target of all edges
+     */
+    private static Map<List<DefaultNode>, Double> edges(final Graph graph) {
+        return graph.edgeSet().stream()
+                .collect(Collectors.toMap(
+                        edge -> Arrays.asList(graph.getEdgeSource(edge), graph.getEdgeTarget(edge)),
+                        graph::getEdgeWeight
+                ));
+    }
+
+}
@@ -0,0 +1,200 @@
+package nl.tudelft.context.model.graph;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class SourceSetTest {
+
+    SourceSet catDog = SourceSet.of(Arrays.asList("Cat", "Dog"));
+    SourceSet dogMouse = SourceSet.of(Arrays.asList("Dog", "Mouse"));
+    SourceSet mouse = SourceSet.of(Arrays.asList("Mouse"));
+
+    /**
+     * Equal sets are shared once they are interned.
+     */
+    @Test
+    public void testInterned() {
+
+        SourceSet dogCat = SourceSet.of(new HashSet<>(Arrays.asList("Dog", "Cat")));
+
+        assertNotSame(catDog, dogCat);
+        assertSame(catDog.intern(), dogCat.intern());
+        assertSame(SourceSet.EMPTY, SourceSet.of(new ArrayList<>()));
+        assertSame(SourceSet.EMPTY, SourceSet.of(new ArrayList<>()).intern());
+
+    }
+
+    /**
+     * Results of set operations are not interned.
+     */
+    @Test
+    public void testNotInterned() {
+
+        SourceSet interned = catDog.union(dogMouse).intern();
+
+        assertNotSame(interned, catDog.union(dogMouse));
+        assertNotSame(interned, dogMouse.union(catDog));
+
+    }
+
+    /**
+     * Clearing the registry forgets the interned sets, which stay valid.
+     */
+    @Test
+    public void testClear() {
+
+        SourceSet interned = catDog.union(mouse).intern();
+        GenomeRegistry.instance().clear();
+
+        assertNotSame(interned, catDog.union(mouse).intern());
+        assertEquals(interned, catDog.union(mouse).intern());
+        assertTrue(interned.contains("Mouse"));
+
+    }
+
+    /**
+     * Source sets are equal to other sets with the same genomes.
+     */
+    @Test
+    public void testEquals() {
+
+        HashSet<String> hashSet = new HashSet<>(Arrays.asList("Cat", "Dog"));
+
+        assertEquals(hashSet, catDog);
+        assertEquals(catDog, hashSet);
+        assertEquals(hashSet.hashCode(), catDog.hashCode());
+
+    }
+
+    /**
+     * Test contains and size.
+     */
+    @Test
+    public void testContains() {
+
+        assertEquals(2, catDog.size());
+        assertTrue(catDog.contains("Cat"));
+        assertFalse(catDog.contains("Mouse"));
+        assertFalse(catDog.contains("Unregistered"));
+        assertFalse(catDog.contains(null));
+
+    }
+
+    /**
+     * Test any genome in common.
+     */
+    @Test
+    public void testContainsAny() {
+
+        assertTrue(catDog.containsAny(dogMouse));
+        assertFalse(catDog.containsAny(mouse));
+        assertFalse(catDog.containsAny(SourceSet.EMPTY));
+
+    }
+
+    /**
+     * Test containing all genomes of another set.
+     */
+    @Test
+    public void testContainsAll() {
+
+        assertTrue(dogMouse.containsAll(mouse));
+        assertFalse(catDog.containsAll(dogMouse));
+        assertTrue(catDog.containsAll(Arrays.asList("Cat")));
+
+    }
+
+    /**
+     * Test union.
+     */
+    @Test
+    public void testUnion() {
+
+        assertEquals(new HashSet<>(Arrays.asList("Cat", "Dog", "Mouse")), catDog.union(dogMouse));
+        assertEquals(catDog, catDog.union(SourceSet.EMPTY));
+
+    }
+
+    /**
+     * Test intersection.
+     */
+    @Test
+    public void testIntersect() {
+
+        assertEquals(new HashSet<>(Arrays.asList("Dog")), catDog.intersect(dogMouse));
+        assertSame(SourceSet.EMPTY, catDog.intersect(mouse));
+
+    }
+
+    /**
+     * Test difference.
+     */
+    @Test
+    public void testDifference() {
+
+        assertEquals(new HashSet<>(Arrays.asList("Cat")), catDog.difference(dogMouse));
+        assertEquals(catDog, catDog.difference(mouse));
+        assertSame(SourceSet.EMPTY, mouse.difference(dogMouse));
+
+    }
+
+    /**
+     * Test counting the common genomes.
+     */
+    @Test
+    public void testCountCommon() {
+
+        assertEquals(1, catDog.countCommon(dogMouse));
+        assertEquals(2, catDog.countCommon(catDog));
+        assertEquals(0, catDog.countCommon(mouse));
+
+    }
+
+    /**
+     * Test iterating genomes with an index in another word.
+     */
+    @Test
+    public void testIterator() {
+
+        SourceSet.Builder builder = new SourceSet.Builder();
+        for (int i = 0; i < Long.SIZE * 2; i++) {
+            builder.add("Genome" + i);
+        }
+        SourceSet sourceSet = builder.build();
+
+        List<String> genomes = new ArrayList<>(sourceSet);
+        assertEquals(Long.SIZE * 2, genomes.size());
+        assertTrue(sourceSet.contains("Genome" + (Long.SIZE + 1)));
+        assertTrue(sourceSet.containsAny(SourceSet.of(Arrays.asList("Genome" + (Long.SIZE * 2 - 1)))));
+
+    }
+
+    /**
+     * Test adding all genomes of source sets to a builder.
+     */
+    @Test
+    public void testBuilderAddAll() {
+
+        SourceSet.Builder builder = new SourceSet.Builder();
+
+        assertEquals(catDog.union(dogMouse), builder.addAll(catDog).addAll(dogMouse).build());
+        assertSame(SourceSet.EMPTY, builder.addAll(SourceSet.EMPTY).build());
+
+    }
+
+}
@@ -0,0 +1,168 @@
+package nl.tudelft.context.model.graph;
+
+import nl.tudelft.context.model.graph.filter.SuperBubble;
+import nl.tudelft.context.model.graph.filter.SuperBubbleFilter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class SuperBubbleFilterTest {
+
+    Graph graph;
+    Node[] nodes = new Node[8];
+
+    /**
+     * Create a graph with a superbubble from node 0 to 5, containing a superbubble from node 2 to 6.
+     */
+    @Before
+    public void setUp() {
+
+        graph = new Graph();
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node(i, new HashSet<>(Arrays.asList("Cat", "Dog")), i, i + 1, "A");
+            graph.addVertex(nodes[i]);
+        }
+
+        addEdge(0, 1, 0.5);
+        addEdge(0, 2, 0.5);
+        addEdge(1, 5, 0.5);
+        addEdge(2, 3, 0.25);
+        addEdge(2, 4, 0.25);
+        addEdge(3, 6, 0.25);
+        addEdge(4, 6, 0.25);
+        addEdge(6, 5, 0.5);
+        addEdge(5, 7, 1);
+
+    }
+
+    /**
+     * Add a weighted edge to the graph.
+     *
+     * @param source Id of the source
+     * @param target Id of the target
+     * @param weight Weight of the edge
+     */
+    private void addEdge(final int source, final int target, final double weight) {
+        graph.setEdgeWeight(graph.addEdge(nodes[source], nodes[target]), weight);
+    }
+
+    /**
+     * Get the graph nodes of a graph.
+     *
+     * @param stackGraph Graph to get the graph nodes of
+     * @return The graph nodes
+     */
+    private static List<GraphNode> graphNodes(final StackGraph stackGraph) {
+        return stackGraph.vertexSet().stream()
+                .filter(node -> node instanceof GraphNode)
+                .map(node -> (GraphNode) node)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Test that the nested superbubbles are detected with their depth.
+     */
+    @Test
+    public void testDetect() {
+
+        List<SuperBubble> bubbles = SuperBubble.detect(graph);
+
+        assertEquals(2, bubbles.size());
+        assertEquals(nodes[0], bubbles.get(0).getStart());
+        assertEquals(nodes[5], bubbles.get(0).getEnd());
+        assertEquals(0, bubbles.get(0).getDepth());
+        assertEquals(nodes[2], bubbles.get(1).getStart());
+        assertEquals(nodes[6], bubbles.get(1).getEnd());
+        assertEquals(1, bubbles.get(1).getDepth());
+
+    }
+
+    /**
+     * Test that a bubble with a tip is not a superbubble.
+     */
+    @Test
+    public void testTip() {
+
+        Node tip = new Node(8, new HashSet<>(Arrays.asList("Cat", "Dog")), 8, 9, "A");
+        graph.addVertex(tip);
+        graph.addEdge(nodes[3], tip);
+
+        List<SuperBubble> bubbles = SuperBubble.detect(graph);
+
+        assertTrue(bubbles.stream().noneMatch(bubble -> bubble.getStart().equals(nodes[2])));
+        assertTrue(bubbles.stream().noneMatch(bubble -> bubble.getStart().equals(nodes[0])));
+
+    }
+
+    /**
+     * Test that the maximal superbubble is collapsed and the graph itself is not changed.
+     */
+    @Test
+    public void testCollapsed() {
+
+        StackGraph filtered = new SuperBubbleFilter(graph).getFilterGraph();
+
+        assertEquals(3, filtered.vertexSet().size());
+        assertTrue(filtered.containsVertex(nodes[5]));
+        assertTrue(filtered.containsVertex(nodes[7]));
+
+        List<GraphNode> graphNodes = graphNodes(filtered);
+        assertEquals(1, graphNodes.size());
+        assertEquals(1, filtered.getEdgeWeight(filtered.getEdge(graphNodes.get(0), nodes[5])), 0);
+
+        assertEquals(8, graph.vertexSet().size());
+        assertEquals(9, graph.edgeSet().size());
+
+    }
+
+    /**
+     * Test that the sub graph of the collapsed superbubble contains the nested superbubble as graph node.
+     */
+    @Test
+    public void testNested() {
+
+        GraphNode outer = graphNodes(new SuperBubbleFilter(graph).getFilterGraph()).get(0);
+
+        List<GraphNode> inner = graphNodes(outer.getParentGraph().createSubGraph(outer.getNodes()));
+        assertEquals(1, inner.size());
+        assertEquals(new HashSet<>(Arrays.asList(nodes[0], nodes[1], inner.get(0), nodes[6])), outer.getNodes());
+
+        assertEquals(new HashSet<>(Arrays.asList(nodes[2], nodes[3], nodes[4])), inner.get(0).getNodes());
+
+    }
+
+    /**
+     * Test that superbubbles which follow each other are both collapsed.
+     */
+    @Test
+    public void testChained() {
+
+        graph.removeEdge(nodes[5], nodes[7]);
+        addEdge(5, 7, 0.5);
+        Node node = new Node(8, new HashSet<>(Arrays.asList("Cat", "Dog")), 8, 9, "A");
+        graph.addVertex(node);
+        graph.setEdgeWeight(graph.addEdge(nodes[5], node), 0.5);
+        graph.setEdgeWeight(graph.addEdge(node, nodes[7]), 0.5);
+
+        StackGraph filtered = new SuperBubbleFilter(graph).getFilterGraph();
+
+        List<GraphNode> graphNodes = graphNodes(filtered);
+        assertEquals(2, graphNodes.size());
+        assertEquals(3, filtered.vertexSet().size());
+        assertEquals(2, filtered.edgeSet().size());
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package nl.tudelft.context.model.graph;
+
+import nl.tudelft.context.model.graph.filter.ZoomPyramid;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class ZoomPyramidTest {
+
+    /**
+     * Amount of bubbles in the graph.
+     */
+    static final int BUBBLES = 20;
+
+    Graph graph;
+    Node[] chain = new Node[BUBBLES + 1];
+    Node[] upper = new Node[BUBBLES];
+    Node[] lower = new Node[BUBBLES];
+
+    /**
+     * Create a graph with a chain of bubbles.
+     */
+    @Before
+    public void setUp() {
+
+        graph = new Graph();
+        for (int i = 0; i <= BUBBLES; i++) {
+            chain[i] = node(3 * i);
+            graph.addVertex(chain[i]);
+        }
+        for (int i = 0; i < BUBBLES; i++) {
+            upper[i] = node(3 * i + 1);
+            lower[i] = node(3 * i + 2);
+            graph.addVertex(upper[i]);
+            graph.addVertex(lower[i]);
+            graph.setEdgeWeight(graph.addEdge(chain[i], upper[i]), 0.5);
+            graph.setEdgeWeight(graph.addEdge(chain[i], lower[i]), 0.5);
+            graph.setEdgeWeight(graph.addEdge(upper[i], chain[i + 1]), 0.5);
+            graph.setEdgeWeight(graph.addEdge(lower[i], chain[i + 1]), 0.5);
+        }
+
+    }
+
+    /**
+     * Create a node.
+     *
+     * @param id Id of the node
+     * @return The node
+     */
+    private static Node node(final int id) {
+        return new Node(id, new HashSet<>(Arrays.asList("Cat", "Dog")), id, id + 1, "A");
+    }
+
+    /**
+     * Test that every level shrinks at least by the reduction factor.
+     */
+    @Test
+    public void testLevels() {
+
+        ZoomPyramid pyramid = new ZoomPyramid(graph);
+
+        assertEquals(2, pyramid.size());
+        assertEquals(graph, pyramid.getLevel(0));
+        for (int level = 1; level < pyramid.size(); level++) {
+            assertTrue(pyramid.getLevel(level).vertexSet().size() * ZoomPyramid.REDUCTION
+                    <= pyramid.getLevel(level - 1).vertexSet().size());
+        }
+        assertEquals(1, pyramid.getLevel(1).vertexSet().size());
+
+    }
+
+    /**
+     * Test that the nodes are linked to the levels above and below.
+     */
+    @Test
+    public void testParentChildren() {
+
+        ZoomPyramid pyramid = new ZoomPyramid(graph);
+        DefaultNode top = pyramid.getLevel(1).vertexSet().iterator().next();
+
+        assertEquals(top, pyramid.getParent(0, upper[3]));
+        assertEquals(top, pyramid.getParent(0, chain[BUBBLES]));
+        assertNull(pyramid.getParent(1, top));
+
+        assertEquals(graph.vertexSet(), new HashSet<>(pyramid.getChildren(1, top)));
+        assertTrue(pyramid.getChildren(0, chain[0]).isEmpty());
+
+    }
+
+    /**
+     * Test that a graph which can not be collapsed only has one level.
+     */
+    @Test
+    public void testSingleLevel() {
+
+        Graph single = new Graph();
+        single.addVertex(chain[0]);
+
+        ZoomPyramid pyramid = new ZoomPyramid(single);
+
+        assertEquals(1, pyramid.size());
+        assertNull(pyramid.getParent(0, chain[0]));
+
+    }
+
+    /**
+     * Test that a cancelled build stops before the next filter pass.
+     */
+    @Test
+    public void testCancelled() {
+
+        ZoomPyramid pyramid = new ZoomPyramid(graph, () -> true);
+
+        assertEquals(1, pyramid.size());
+        assertEquals(graph, pyramid.getLevel(0));
+
+    }
+
+}
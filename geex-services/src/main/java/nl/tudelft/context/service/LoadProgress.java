@@ -0,0 +1,147 @@
+package nl.tudelft.context.service;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Progress of a Loadable at one moment, with the throughput since it started loading.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class LoadProgress {
+
+    /**
+     * Bytes in a megabyte, to show the throughput.
+     */
+    private static final double MEGABYTE = 1 << 20;
+
+    /**
+     * Amount of bytes read.
+     */
+    private final long bytesRead;
+
+    /**
+     * Amount of bytes to read, 0 if unknown.
+     */
+    private final long totalBytes;
+
+    /**
+     * Amount of records read.
+     */
+    private final long recordsRead;
+
+    /**
+     * Nanoseconds since loading started.
+     */
+    private final long elapsed;
+
+    /**
+     * Create the progress of a Loadable.
+     *
+     * @param bytesRead   Amount of bytes read
+     * @param totalBytes  Amount of bytes to read, 0 if unknown
+     * @param recordsRead Amount of records read
+     * @param elapsed     Nanoseconds since loading started
+     */
+    public LoadProgress(final long bytesRead, final long totalBytes, final long recordsRead, final long elapsed) {
+        this.bytesRead = bytesRead;
+        this.totalBytes = totalBytes;
+        this.recordsRead = recordsRead;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Take the progress of a Loadable.
+     *
+     * @param loadable Loadable which is loading
+     * @param start    Value of System.nanoTime when loading started
+     * @return The progress
+     */
+    public static LoadProgress of(final Loadable<?> loadable, final long start) {
+        return new LoadProgress(loadable.getBytesRead(), loadable.getTotalBytes(), loadable.getRecordsRead(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Get the amount of bytes read.
+     *
+     * @return Bytes read
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Get the amount of bytes to read.
+     *
+     * @return Bytes to read, 0 if unknown
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Get the amount of records read.
+     *
+     * @return Records read
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    /**
+     * Get the part of the bytes which is read.
+     *
+     * @return Progress between 0 and 1, -1 if the amount of bytes to read is unknown
+     */
+    public double getProgress() {
+
+        if (totalBytes <= 0) {
+            return -1;
+        }
+        return Math.min(1, bytesRead / (double) totalBytes);
+
+    }
+
+    /**
+     * Get the amount of bytes read per second.
+     *
+     * @return Bytes per second
+     */
+    public double getBytesPerSecond() {
+        return perSecond(bytesRead);
+    }
+
+    /**
+     * Get the amount of records read per second.
+     *
+     * @return Records per second
+     */
+    public double getRecordsPerSecond() {
+        return perSecond(recordsRead);
+    }
+
+    /**
+     * Divide an amount by the elapsed time.
+     *
+     * @param amount Amount since loading started
+     * @return Amount per second
+     */
+    private double perSecond(final long amount) {
+
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return amount * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%.1f MB/s, %.0f records/s",
+                getBytesPerSecond() / MEGABYTE, getRecordsPerSecond());
+    }
+
+}
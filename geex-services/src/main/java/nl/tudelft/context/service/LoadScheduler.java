@@ -0,0 +1,382 @@
+package nl.tudelft.context.service;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import javafx.concurrent.Service;
+import javafx.concurrent.WorkerStateEvent;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the stages of loading a workspace as soon as their inputs are ready.
+ * <p>
+ * Every stage is a future which depends on the futures of its inputs and runs on a bounded executor,
+ * so independent stages run at the same time without starting more threads than there are processors.
+ * The progress of every stage is available on the JavaFX thread: 0 while waiting for its inputs,
+ * indeterminate while running and 1 when done. A load service which knows the size of its files shows the part
+ * it has read while running.
+ * </p>
+ * <p>
+ * All work of the scheduler, including services started on its executor, is counted until it finishes.
+ * Cancelling returns a future which completes once the work which was already running has finished, so data
+ * the stages read can be handed over safely.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class LoadScheduler {
+
+    /**
+     * Progress of a stage which is running.
+     */
+    public static final double RUNNING = -1;
+
+    /**
+     * Executor shared by all schedulers, with a daemon thread per processor.
+     */
+    private static final ExecutorService SHARED = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "Load scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Executor to run the stages on.
+     */
+    private final Executor executor;
+
+    /**
+     * Progress of every stage, only changed on the JavaFX thread.
+     */
+    private final ObservableMap<String, Double> stages = FXCollections.observableHashMap();
+
+    /**
+     * Part of the stages which is done, including the part of the running stages which reported it.
+     */
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0);
+
+    /**
+     * Futures of the stages, cancelled when the scheduler is cancelled.
+     */
+    private final List<CompletableFuture<?>> futures = new CopyOnWriteArrayList<>();
+
+    /**
+     * Services started as stages, cancelled when the scheduler is cancelled.
+     */
+    private final List<Service<?>> services = new CopyOnWriteArrayList<>();
+
+    /**
+     * If the scheduler is cancelled, stages which did not start yet are not started anymore.
+     */
+    private volatile boolean cancelled = false;
+
+    /**
+     * Amount of work submitted to the executor which did not finish yet.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Completed when the scheduler is cancelled and no work is pending anymore.
+     */
+    private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+
+    /**
+     * Create a scheduler on the shared executor.
+     */
+    public LoadScheduler() {
+        this(SHARED);
+    }
+
+    /**
+     * Create a scheduler.
+     *
+     * @param executor Executor to run the stages on
+     */
+    public LoadScheduler(final Executor executor) {
+
+        this.executor = command -> {
+            pending.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        command.run();
+                    } finally {
+                        finish();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                finish();
+                throw e;
+            }
+        };
+
+    }
+
+    /**
+     * Count work as finished, the scheduler is stopped when it is cancelled and no work is pending.
+     */
+    private void finish() {
+
+        if (pending.decrementAndGet() == 0 && cancelled) {
+            stopped.complete(null);
+        }
+
+    }
+
+    /**
+     * Get the executor shared by all schedulers, with a thread per processor.
+     *
+     * @return The shared executor
+     */
+    public static Executor shared() {
+        return SHARED;
+    }
+
+    /**
+     * Get the executor the stages run on, work submitted to it is waited for when the scheduler is cancelled.
+     *
+     * @return The executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Start a load service as a stage, it runs on the shared executor.
+     *
+     * @param stage   Name of the stage
+     * @param service Service to start, on the JavaFX thread
+     * @param <T>     Type of the loaded value
+     * @return Future with the loaded value, cancelled when the service is cancelled
+     */
+    public <T> CompletableFuture<T> load(final String stage, final LoadService<T> service) {
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        setProgress(stage, RUNNING);
+
+        service.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, event -> {
+            setProgress(stage, 1);
+            future.complete(service.getValue());
+        });
+        service.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, event -> {
+            setProgress(stage, 1);
+            future.completeExceptionally(service.getException());
+        });
+        service.addEventHandler(WorkerStateEvent.WORKER_STATE_CANCELLED, event -> {
+            setProgress(stage, 1);
+            future.cancel(false);
+        });
+
+        service.loadProgressProperty().addListener((observable, oldValue, newValue) -> {
+            if (service.isRunning() && newValue.getProgress() >= 0 && newValue.getProgress() < 1) {
+                setProgress(stage, newValue.getProgress());
+            }
+        });
+
+        services.add(service);
+        futures.add(future);
+        service.start();
+
+        return future;
+
+    }
+
+    /**
+     * Get a future which completes with the first value of an observable which is not null.
+     *
+     * @param observable Observable to wait for, only changed on the JavaFX thread
+     * @param <T>        Type of the value
+     * @return Future with the value
+     */
+    public static <T> CompletableFuture<T> valueOf(final ObservableValue<T> observable) {
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        if (observable.getValue() != null) {
+            future.complete(observable.getValue());
+            return future;
+        }
+
+        observable.addListener(new ChangeListener<T>() {
+            @Override
+            public void changed(final ObservableValue<? extends T> value, final T oldValue, final T newValue) {
+                if (newValue != null) {
+                    observable.removeListener(this);
+                    future.complete(newValue);
+                }
+            }
+        });
+
+        return future;
+
+    }
+
+    /**
+     * Run a stage when its input is ready.
+     *
+     * @param stage Name of the stage
+     * @param input Future with the input
+     * @param task  Work of the stage
+     * @param <T>   Type of the input
+     * @param <U>   Type of the output
+     * @return Future with the output
+     */
+    public <T, U> CompletableFuture<U> then(final String stage,
+                                            final CompletableFuture<T> input,
+                                            final Function<T, U> task) {
+
+        setProgress(stage, 0);
+        return track(stage, input.thenApplyAsync(value -> run(stage, () -> task.apply(value)), executor));
+
+    }
+
+    /**
+     * Run a stage when both its inputs are ready.
+     *
+     * @param stage Name of the stage
+     * @param left  Future with the first input
+     * @param right Future with the second input
+     * @param task  Work of the stage
+     * @param <T>   Type of the first input
+     * @param <U>   Type of the second input
+     * @param <V>   Type of the output
+     * @return Future with the output
+     */
+    public <T, U, V> CompletableFuture<V> join(final String stage,
+                                               final CompletableFuture<T> left,
+                                               final CompletableFuture<U> right,
+                                               final BiFunction<T, U, V> task) {
+
+        setProgress(stage, 0);
+        return track(stage, left.thenCombineAsync(right,
+                (first, second) -> run(stage, () -> task.apply(first, second)), executor));
+
+    }
+
+    /**
+     * Run the work of a stage and mark it running.
+     *
+     * @param stage Name of the stage
+     * @param work  Work of the stage
+     * @param <T>   Type of the output
+     * @return The output
+     */
+    private <T> T run(final String stage, final Supplier<T> work) {
+
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        setProgress(stage, RUNNING);
+        return work.get();
+
+    }
+
+    /**
+     * Mark a stage done when its future completes, also when it failed or its input failed.
+     *
+     * @param stage  Name of the stage
+     * @param future Future of the stage
+     * @param <T>    Type of the output
+     * @return The future
+     */
+    private <T> CompletableFuture<T> track(final String stage, final CompletableFuture<T> future) {
+
+        futures.add(future);
+        future.whenComplete((value, throwable) -> setProgress(stage, 1));
+        return future;
+
+    }
+
+    /**
+     * Cancel all stages, a stage which is running finishes but its result is not used.
+     * <p>
+     * Services are cancelled as well, so this has to be called on the JavaFX thread.
+     * </p>
+     *
+     * @return Future which completes when the work on the executor which was running has finished
+     */
+    public CompletableFuture<Void> cancel() {
+
+        cancelled = true;
+        services.forEach(Service::cancel);
+        futures.forEach(future -> future.cancel(false));
+        if (pending.get() == 0) {
+            stopped.complete(null);
+        }
+
+        return stopped;
+
+    }
+
+    /**
+     * Check if a stage failed because it, or one of its inputs, was cancelled.
+     *
+     * @param throwable Throwable the future of the stage completed with
+     * @return If the stage was cancelled
+     */
+    public static boolean isCancellation(final Throwable throwable) {
+
+        Throwable cause = throwable;
+        while (cause != null && !(cause instanceof CancellationException)) {
+            cause = cause.getCause();
+        }
+        return cause != null;
+
+    }
+
+    /**
+     * Set the progress of a stage on the JavaFX thread.
+     *
+     * @param stage    Name of the stage
+     * @param progress Progress of the stage
+     */
+    private void setProgress(final String stage, final double progress) {
+
+        if (Platform.isFxApplicationThread()) {
+            stages.put(stage, progress);
+            this.progress.set(stages.values().stream().mapToDouble(value -> Math.max(0, value)).sum()
+                    / stages.size());
+        } else {
+            Platform.runLater(() -> setProgress(stage, progress));
+        }
+
+    }
+
+    /**
+     * Get the progress of every stage, 0 while waiting, RUNNING or the part done while running and 1 when done.
+     *
+     * @return Progress of every stage by name
+     */
+    public ObservableMap<String, Double> getStages() {
+        return FXCollections.unmodifiableObservableMap(stages);
+    }
+
+    /**
+     * Get the part of the stages which is done, a running stage counts for the part it reported.
+     *
+     * @return Progress between 0 and 1
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+}
@@ -1,17 +1,45 @@
 package nl.tudelft.context.service;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 
 import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Service which loads files with a Loadable.
+ * <p>
+ * While loading, the progress of the Loadable is reported a few times per second: the progress of the service
+ * is the part of the bytes read and the message is the throughput.
+ * </p>
+ *
  * @param <T> The type of class to Load.
  * @author Gerben Oolbekkink
  * @version 1.0
  * @since 24-5-2015
  */
 public class LoadService<T> extends Service<T> {
+    /**
+     * Milliseconds between two progress reports.
+     */
+    private static final long REPORT_INTERVAL = 200;
+
+    /**
+     * Executor which reports the progress of all load services.
+     */
+    private static final ScheduledExecutorService REPORTER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "Load progress");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     /**
      * The class used for parsing the files.
      */
@@ -20,9 +48,13 @@ public class LoadService<T> extends Service<T> {
      * The files to load.
      */
     private File[] files;
+    /**
+     * Last reported progress of the Loadable.
+     */
+    private final ReadOnlyObjectWrapper<LoadProgress> loadProgress = new ReadOnlyObjectWrapper<>();
 
     /**
-     * Create a new Loader service.
+     * Create a new Loader service, which runs on the executor shared by the load schedulers.
      *
      * @param parserClass Class used for parsing the files.
      * @param files       Files to load.
@@ -31,24 +63,67 @@ public class LoadService<T> extends Service<T> {
         this.parserClass = parserClass;
         this.files = files;
 
+        setExecutor(LoadScheduler.shared());
         ready();
     }
 
+    /**
+     * Get the last reported progress of the Loadable, with the bytes and records read and the throughput.
+     *
+     * @return Progress of the Loadable, null before it started loading
+     */
+    public ReadOnlyObjectProperty<LoadProgress> loadProgressProperty() {
+        return loadProgress.getReadOnlyProperty();
+    }
+
     @Override
     protected Task<T> createTask() {
         return new Task<T>() {
-            private Loadable<T> parser;
+            /**
+             * Loadable which loads the files, set on the loading thread and cancelled on the JavaFX thread.
+             */
+            private volatile Loadable<T> parser;
 
             @Override
             protected T call() throws Exception {
                 parser = parserClass.newInstance();
                 parser.setFiles(files);
-                return parser.load();
+                if (isCancelled()) {
+                    parser.cancel();
+                }
+
+                final long start = System.nanoTime();
+                ScheduledFuture<?> reporter = REPORTER.scheduleAtFixedRate(() -> report(start),
+                        REPORT_INTERVAL, REPORT_INTERVAL, TimeUnit.MILLISECONDS);
+                try {
+                    return parser.load();
+                } finally {
+                    reporter.cancel(false);
+                    report(start);
+                }
+            }
+
+            /**
+             * Report the progress of the Loadable.
+             *
+             * @param start Value of System.nanoTime when loading started
+             */
+            private void report(final long start) {
+                LoadProgress progress = LoadProgress.of(parser, start);
+                if (progress.getTotalBytes() > 0) {
+                    updateProgress(Math.min(progress.getBytesRead(), progress.getTotalBytes()),
+                            progress.getTotalBytes());
+                }
+                updateMessage(progress.toString());
+                Platform.runLater(() -> loadProgress.set(progress));
             }
 
             @Override
             protected void cancelled() {
-                parser.cancel();
+                Loadable<T> loadable = parser;
+                if (loadable != null) {
+                    loadable.cancel();
+                }
             }
         };
     }
@@ -31,7 +31,34 @@ public interface Loadable<T> {
     Loadable<T> setFiles(final File... files) throws IOException;
 
     /**
-     * Set the state of this Loadable to cancelled.
+     * Set the state of this Loadable to cancelled, can be called from any thread while loading.
      */
     void cancel();
+
+    /**
+     * Get the amount of bytes read, can be called from any thread while loading.
+     *
+     * @return Bytes read
+     */
+    default long getBytesRead() {
+        return 0;
+    }
+
+    /**
+     * Get the amount of bytes to read.
+     *
+     * @return Bytes to read, 0 if unknown
+     */
+    default long getTotalBytes() {
+        return 0;
+    }
+
+    /**
+     * Get the amount of records read, can be called from any thread while loading.
+     *
+     * @return Records read
+     */
+    default long getRecordsRead() {
+        return 0;
+    }
 }
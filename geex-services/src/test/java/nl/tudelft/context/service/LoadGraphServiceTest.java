@@ -11,6 +11,7 @@ import java.io.UnsupportedEncodingException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -46,7 +47,7 @@ public class LoadGraphServiceTest {
     }
 
     public static class InfiniteParser implements Loadable<Boolean> {
-        private boolean cancelled = false;
+        private volatile boolean cancelled = false;
 
         public InfiniteParser() {
         }
@@ -74,6 +75,43 @@ public class LoadGraphServiceTest {
         }
     }
 
+    public static class ProgressParser extends MyParser {
+        @Override
+        public long getBytesRead() {
+            return 10;
+        }
+
+        @Override
+        public long getTotalBytes() {
+            return 10;
+        }
+
+        @Override
+        public long getRecordsRead() {
+            return 5;
+        }
+    }
+
+    @Test
+    public void testLoadProgress() throws Exception {
+        final LoadService<Boolean> loadGraphService = new LoadService<>(ProgressParser.class, nodeFile, edgeFile);
+
+        CompletableFuture<LoadProgress> loadProgress = new CompletableFuture<>();
+        CompletableFuture<Double> progress = new CompletableFuture<>();
+
+        loadGraphService.setOnSucceeded(event -> {
+            loadProgress.complete(loadGraphService.loadProgressProperty().get());
+            progress.complete(loadGraphService.getProgress());
+        });
+
+        loadGraphService.start();
+
+        LoadProgress result = loadProgress.get(5000, TimeUnit.MILLISECONDS);
+        assertEquals(10, result.getBytesRead());
+        assertEquals(5, result.getRecordsRead());
+        assertEquals(1, progress.get(), 0);
+    }
+
     @Test
     public void testParse() throws Exception {
         final LoadService<Boolean> loadGraphService = new LoadService<>(MyParser.class, nodeFile, edgeFile);
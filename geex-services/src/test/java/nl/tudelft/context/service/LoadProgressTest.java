@@ -0,0 +1,58 @@
+package nl.tudelft.context.service;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class LoadProgressTest {
+
+    /**
+     * Test the part of the bytes read.
+     */
+    @Test
+    public void testProgress() {
+        assertEquals(0.25, new LoadProgress(1, 4, 0, 1).getProgress(), 0);
+        assertEquals(1, new LoadProgress(8, 4, 0, 1).getProgress(), 0);
+        assertEquals(-1, new LoadProgress(1, 0, 0, 1).getProgress(), 0);
+    }
+
+    /**
+     * Test the throughput per second.
+     */
+    @Test
+    public void testThroughput() {
+        LoadProgress progress = new LoadProgress(3 << 20, 0, 100, TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(3 << 19, progress.getBytesPerSecond(), 0);
+        assertEquals(50, progress.getRecordsPerSecond(), 0);
+        assertEquals("1.5 MB/s, 50 records/s", progress.toString());
+    }
+
+    /**
+     * Test that nothing is read per second before any time elapsed.
+     */
+    @Test
+    public void testNoTimeElapsed() {
+        assertEquals(0, new LoadProgress(1, 1, 1, 0).getBytesPerSecond(), 0);
+    }
+
+    /**
+     * Test taking the progress of a loadable.
+     */
+    @Test
+    public void testOf() {
+        LoadProgress progress = LoadProgress.of(new LoadGraphServiceTest.MyParser(), System.nanoTime());
+
+        assertEquals(0, progress.getBytesRead());
+        assertEquals(0, progress.getTotalBytes());
+        assertEquals(0, progress.getRecordsRead());
+    }
+
+}
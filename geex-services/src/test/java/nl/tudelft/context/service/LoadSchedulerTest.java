@@ -0,0 +1,171 @@
+package nl.tudelft.context.service;
+
+import de.saxsys.javafx.test.JfxRunner;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@RunWith(JfxRunner.class)
+public class LoadSchedulerTest {
+
+    LoadScheduler scheduler;
+
+    /**
+     * Create a scheduler.
+     */
+    @Before
+    public void setUp() {
+        scheduler = new LoadScheduler();
+    }
+
+    /**
+     * Run something on the JavaFX thread and wait for it.
+     *
+     * @param runnable What to run
+     */
+    private static void onFxThread(final Runnable runnable) throws Exception {
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            runnable.run();
+            done.complete(true);
+        });
+        done.get(5000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Test that a stage runs when both its inputs are ready and the next stage on its output.
+     */
+    @Test
+    public void testStages() throws Exception {
+        CompletableFuture<Integer> left = new CompletableFuture<>();
+        CompletableFuture<Integer> right = new CompletableFuture<>();
+
+        CompletableFuture<Integer> sum = scheduler.join("Sum", left, right, (a, b) -> a + b);
+        CompletableFuture<String> text = scheduler.then("Text", sum, String::valueOf);
+
+        left.complete(1);
+        assertTrue(!sum.isDone());
+        right.complete(2);
+
+        assertEquals("3", text.get(5000, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Test that every stage is done afterwards.
+     */
+    @Test
+    public void testProgress() throws Exception {
+        CompletableFuture<Integer> input = new CompletableFuture<>();
+        CompletableFuture<Integer> output = scheduler.then("Double", input, value -> value * 2);
+
+        input.complete(2);
+        output.get(5000, TimeUnit.MILLISECONDS);
+
+        onFxThread(() -> {
+            assertEquals(1, scheduler.getStages().get("Double"), 0);
+            assertEquals(1, scheduler.progressProperty().get(), 0);
+        });
+    }
+
+    /**
+     * Test that a failed input fails the stages depending on it.
+     */
+    @Test(expected = ExecutionException.class)
+    public void testFailure() throws Exception {
+        CompletableFuture<Integer> input = new CompletableFuture<>();
+        CompletableFuture<Integer> output = scheduler.then("Double", input, value -> value * 2);
+
+        input.completeExceptionally(new IllegalStateException());
+
+        output.get(5000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Test that a cancelled scheduler does not run stages anymore.
+     */
+    @Test
+    public void testCancel() throws Exception {
+        CompletableFuture<Integer> input = new CompletableFuture<>();
+        CompletableFuture<Integer> output = scheduler.then("Double", input, value -> value * 2);
+
+        scheduler.cancel();
+        input.complete(2);
+
+        assertTrue(output.isCancelled());
+        output.handle((value, throwable) -> LoadScheduler.isCancellation(throwable))
+                .thenAccept(Assert::assertTrue)
+                .get(5000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Test that cancelling waits for a stage which is already running.
+     */
+    @Test
+    public void testCancelWaitsForRunning() throws Exception {
+        CompletableFuture<Boolean> started = new CompletableFuture<>();
+        CompletableFuture<Boolean> release = new CompletableFuture<>();
+        scheduler.then("Wait", CompletableFuture.completedFuture(true), value -> {
+            started.complete(true);
+            return release.join();
+        });
+        started.get(5000, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<Void> stopped = scheduler.cancel();
+        assertTrue(!stopped.isDone());
+
+        release.complete(true);
+        stopped.get(5000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Test that cancelling an idle scheduler is done at once.
+     */
+    @Test
+    public void testCancelIdle() {
+        assertTrue(scheduler.cancel().isDone());
+    }
+
+    /**
+     * Test that a load service runs as a stage.
+     */
+    @Test
+    public void testLoad() throws Exception {
+        LoadService<Boolean> service = new LoadService<>(LoadGraphServiceTest.MyParser.class, new File(""));
+        CompletableFuture<CompletableFuture<Boolean>> loaded = new CompletableFuture<>();
+
+        Platform.runLater(() -> loaded.complete(scheduler.load("Load", service)));
+
+        assertTrue(loaded.get(5000, TimeUnit.MILLISECONDS).get(5000, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Test that the value of an observable completes the future once it is set.
+     */
+    @Test
+    public void testValueOf() throws Exception {
+        SimpleObjectProperty<String> property = new SimpleObjectProperty<>();
+        CompletableFuture<String> value = LoadScheduler.valueOf(property);
+
+        assertTrue(!value.isDone());
+        property.set("value");
+
+        assertEquals("value", value.get(5000, TimeUnit.MILLISECONDS));
+    }
+
+}
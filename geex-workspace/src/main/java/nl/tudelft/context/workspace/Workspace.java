@@ -1,24 +1,38 @@
 package nl.tudelft.context.workspace;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
+import nl.tudelft.context.logger.Log;
+import nl.tudelft.context.logger.message.Message;
+import nl.tudelft.context.model.Parser;
 import nl.tudelft.context.model.annotation.CodingSequenceMap;
 import nl.tudelft.context.model.annotation.ResistanceMap;
 import nl.tudelft.context.model.annotation.CodingSequenceParser;
 import nl.tudelft.context.model.annotation.ResistanceParser;
 import nl.tudelft.context.model.graph.GraphMap;
-import nl.tudelft.context.model.graph.GraphParser;
+import nl.tudelft.context.model.graph.GenomeRegistry;
+import nl.tudelft.context.model.graph.SharedGraphParser;
 import nl.tudelft.context.model.newick.Newick;
 import nl.tudelft.context.model.newick.NewickParser;
+import nl.tudelft.context.service.LoadScheduler;
 import nl.tudelft.context.service.LoadService;
+import nl.tudelft.context.workspace.cache.CodingSequenceCacheLoader;
+import nl.tudelft.context.workspace.cache.GraphCacheLoader;
+import nl.tudelft.context.workspace.cache.NewickCacheLoader;
+import nl.tudelft.context.workspace.cache.ResistanceCacheLoader;
+import nl.tudelft.context.workspace.cache.WorkspaceCache;
 import org.tmatesoft.sqljet.core.SqlJetException;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Gerben Oolbekkink
- * @version 1.0
+ * @version 1.1
  * @since 8-5-2015
  */
 public class Workspace {
@@ -53,9 +67,19 @@ public class Workspace {
     File codingSequenceFile;
 
     /**
-     * The resistance file in the workspace.
+     * The resistance catalogues in the workspace, ordered by name.
      */
-    File resistanceFile;
+    File[] resistanceFiles;
+
+    /**
+     * The binary cache of the workspace.
+     */
+    WorkspaceCache cache;
+
+    /**
+     * If the workspace is loaded from the cache.
+     */
+    boolean cached;
 
     /**
      * The service used for parsing a Newick.
@@ -77,6 +101,11 @@ public class Workspace {
      */
     LoadService<ResistanceMap> loadResistanceService;
 
+    /**
+     * Scheduler which runs the services and writes the cache when they are done.
+     */
+    final LoadScheduler scheduler = new LoadScheduler();
+
     /**
      * Create a new workspace on the directory.
      *
@@ -92,23 +121,52 @@ public class Workspace {
     }
 
     /**
-     * Find a file in files with a certain extension.
+     * Find a file in files with one of certain extensions.
      *
-     * @param files     Files to search in
-     * @param extension Extension to end with
+     * @param files      Files to search in
+     * @param extensions Extensions to end with
      * @return The found file, null if no file is found.
      * @throws FileNotFoundException Thrown if file not found.
      */
-    private File findFile(final File[] files, final String extension) throws FileNotFoundException {
+    private File findFile(final File[] files, final String... extensions) throws FileNotFoundException {
         return Arrays.stream(files)
-                .filter(file -> file
+                .filter(file -> Arrays.stream(extensions).anyMatch(file
                         .toString()
-                        .toLowerCase()
-                        .endsWith(extension))
+                        .toLowerCase()::endsWith))
                 .findFirst()
                 .orElseThrow(FileNotFoundException::new);
     }
 
+    /**
+     * Find the resistance catalogues in files, ordered by name.
+     * <p>
+     * A single .txt file is the catalogue, of several .txt files only the files starting with a catalogue
+     * header are, so other text files like notes are not read as catalogues.
+     * </p>
+     *
+     * @param files Files to search in
+     * @return The found catalogues, at least one.
+     * @throws FileNotFoundException Thrown if no catalogue is found.
+     */
+    private File[] findResistanceFiles(final File[] files) throws FileNotFoundException {
+        File[] found = Arrays.stream(files)
+                .filter(file -> file
+                        .toString()
+                        .toLowerCase()
+                        .endsWith(".txt"))
+                .sorted()
+                .toArray(File[]::new);
+        if (found.length > 1) {
+            found = Arrays.stream(found)
+                    .filter(ResistanceParser::isCatalogue)
+                    .toArray(File[]::new);
+        }
+        if (found.length == 0) {
+            throw new FileNotFoundException();
+        }
+        return found;
+    }
+
     /**
      * Load graphs and newick files from the loaded directory.
      *
@@ -118,13 +176,29 @@ public class Workspace {
         edgeFile = findFile(files, ".edge.graph");
         nodeFile = findFile(files, ".node.graph");
         nwkFile = findFile(files, ".nwk");
-        codingSequenceFile = findFile(files, ".gff");
-        resistanceFile = findFile(files, ".txt");
+        codingSequenceFile = findFile(files, ".gff", ".gff" + Parser.GZIP_EXTENSION);
+        resistanceFiles = findResistanceFiles(files);
 
-        loadNewickService = new LoadService<>(NewickParser.class, nwkFile);
-        loadCodingSequenceService = new LoadService<>(CodingSequenceParser.class, codingSequenceFile);
-        loadGraphService = new LoadService<>(GraphParser.class, nodeFile, edgeFile);
-        loadResistanceService = new LoadService<>(ResistanceParser.class, resistanceFile);
+        List<File> sources = new ArrayList<>(Arrays.asList(nodeFile, edgeFile, codingSequenceFile));
+        sources.addAll(Arrays.asList(resistanceFiles));
+        sources.add(nwkFile);
+        cache = new WorkspaceCache(new File(directory, directory.getName() + WorkspaceCache.EXTENSION),
+                sources.toArray(new File[sources.size()]));
+        cached = cache.isValid();
+
+        if (cached) {
+            File cacheFile = cache.getFile();
+            loadNewickService = new LoadService<>(NewickCacheLoader.class, cacheFile);
+            loadCodingSequenceService = new LoadService<>(CodingSequenceCacheLoader.class, cacheFile);
+            loadGraphService = new LoadService<>(GraphCacheLoader.class, cacheFile);
+            loadResistanceService = new LoadService<>(ResistanceCacheLoader.class, cacheFile);
+            Log.info(Message.SUCCESS_LOAD_CACHE);
+        } else {
+            loadNewickService = new LoadService<>(NewickParser.class, nwkFile);
+            loadCodingSequenceService = new LoadService<>(CodingSequenceParser.class, codingSequenceFile);
+            loadGraphService = new LoadService<>(SharedGraphParser.class, nodeFile, edgeFile);
+            loadResistanceService = new LoadService<>(ResistanceParser.class, resistanceFiles);
+        }
     }
 
     /**
@@ -137,13 +211,42 @@ public class Workspace {
     }
 
     /**
-     * Preload the workspace, makes sure all the services are started.
+     * Preload the workspace, makes sure all the services are started on the scheduler.
+     *
+     * When the workspace is not loaded from the cache, the cache is written after all services succeeded.
      */
     public void preload() {
-        loadNewickService.start();
-        loadCodingSequenceService.start();
-        loadGraphService.start();
-        loadResistanceService.start();
+        CompletableFuture<Newick> newick = scheduler.load("Newick", loadNewickService);
+        CompletableFuture<CodingSequenceMap> codingSequenceMap = scheduler.load("Coding sequences",
+                loadCodingSequenceService);
+        CompletableFuture<GraphMap> graphMap = scheduler.load("Graph", loadGraphService);
+        CompletableFuture<ResistanceMap> resistanceMap = scheduler.load("Resistances", loadResistanceService);
+
+        if (cache != null && !cached) {
+            CompletableFuture.allOf(newick, codingSequenceMap, graphMap, resistanceMap).thenRunAsync(() ->
+                    writeCache(graphMap.join(), codingSequenceMap.join(), resistanceMap.join(), newick.join()),
+                    scheduler.getExecutor());
+        }
+    }
+
+    /**
+     * Write the cache of the loaded files.
+     *
+     * @param graphMap          The parsed graphs
+     * @param codingSequenceMap The parsed coding sequences
+     * @param resistanceMap     The parsed resistances
+     * @param newick            The parsed tree
+     */
+    void writeCache(final GraphMap graphMap,
+                    final CodingSequenceMap codingSequenceMap,
+                    final ResistanceMap resistanceMap,
+                    final Newick newick) {
+        try {
+            cache.write(graphMap, codingSequenceMap, resistanceMap, newick);
+        } catch (IOException e) {
+            Log.warning(Message.FAIL_WRITE_CACHE);
+            Log.debug(e);
+        }
     }
 
     /**
@@ -182,15 +285,26 @@ public class Workspace {
         return loadResistanceService.valueProperty();
     }
 
+    /**
+     * Get the scheduler which loads the files of the workspace, with the progress of every file.
+     *
+     * @return The scheduler
+     */
+    public LoadScheduler getScheduler() {
+        return scheduler;
+    }
+
     /**
      * Close this workspace.
      *
-     * Cancel all the running services, in order to clean up all the threads.
+     * Cancel all the running services, in order to clean up all the threads, and forget the interned source sets
+     * of the graph.
      */
     public void close() {
         loadCodingSequenceService.cancel();
         loadGraphService.cancel();
         loadNewickService.cancel();
         loadResistanceService.cancel();
+        GenomeRegistry.instance().clear();
     }
 }
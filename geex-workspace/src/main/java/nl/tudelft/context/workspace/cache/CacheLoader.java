@@ -0,0 +1,174 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.service.Loadable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads a single section of a workspace cache, the section is memory mapped.
+ *
+ * @param <T> The type of the loaded section
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public abstract class CacheLoader<T> implements Loadable<T> {
+
+    /**
+     * The cache file.
+     */
+    private File file;
+
+    /**
+     * The state of this loader.
+     */
+    private volatile boolean cancelled = false;
+
+    /**
+     * Set the cache file.
+     *
+     * @param files The cache file
+     * @return this
+     * @throws FileNotFoundException If the cache file is not found
+     */
+    @Override
+    public CacheLoader<T> setFiles(final File... files) throws FileNotFoundException {
+
+        if (!files[0].isFile()) {
+            throw new FileNotFoundException(files[0].getPath());
+        }
+        file = files[0];
+
+        return this;
+
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Check the state of the loader.
+     *
+     * @return If the loader is cancelled
+     */
+    protected boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public T load() {
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+            long[] offsets = readOffsets(channel);
+            return read(channel, offsets);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    }
+
+    /**
+     * Read the section from the cache.
+     *
+     * @param channel Channel of the cache file
+     * @param offsets Offsets of the sections
+     * @return The loaded section
+     * @throws IOException If the section could not be read
+     */
+    protected abstract T read(final FileChannel channel, final long[] offsets) throws IOException;
+
+    /**
+     * Map a section of the cache.
+     *
+     * @param channel Channel of the cache file
+     * @param offsets Offsets of the sections
+     * @param section Index of the section
+     * @return The mapped section
+     * @throws IOException If the section could not be mapped
+     */
+    protected static ByteBuffer map(final FileChannel channel, final long[] offsets, final int section)
+            throws IOException {
+
+        final long size = offsets[section + 1] - offsets[section];
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Section " + section + " is too large to map");
+        }
+
+        return channel.map(FileChannel.MapMode.READ_ONLY, offsets[section], size);
+
+    }
+
+    /**
+     * Read a table of strings.
+     *
+     * @param buffer Buffer to read from
+     * @return The strings
+     */
+    protected static String[] readStrings(final ByteBuffer buffer) {
+
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+
+        return strings;
+
+    }
+
+    /**
+     * Read a string as length and UTF-8 bytes.
+     *
+     * @param buffer Buffer to read from
+     * @return The string
+     */
+    protected static String readString(final ByteBuffer buffer) {
+
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    /**
+     * Read the offset table from the header.
+     *
+     * @param channel Channel of the cache file
+     * @return Offsets of the sections
+     * @throws IOException If the header is not valid
+     */
+    private static long[] readOffsets(final FileChannel channel) throws IOException {
+
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 3);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < header.capacity()
+                || header.getInt() != WorkspaceCache.MAGIC
+                || header.getInt() != WorkspaceCache.VERSION) {
+            throw new IOException("Not a workspace cache");
+        }
+
+        final long position = header.capacity() + (long) header.getInt() * Long.BYTES * 2;
+        ByteBuffer table = ByteBuffer.allocate((WorkspaceCache.SECTIONS + 1) * Long.BYTES);
+        channel.read(table, position);
+        table.flip();
+
+        long[] offsets = new long[WorkspaceCache.SECTIONS + 1];
+        table.asLongBuffer().get(offsets);
+
+        return offsets;
+
+    }
+
+}
@@ -0,0 +1,433 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.model.annotation.CodingSequence;
+import nl.tudelft.context.model.annotation.CodingSequenceMap;
+import nl.tudelft.context.model.annotation.Resistance;
+import nl.tudelft.context.model.annotation.ResistanceMap;
+import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.Graph;
+import nl.tudelft.context.model.graph.GraphMap;
+import nl.tudelft.context.model.graph.Node;
+import nl.tudelft.context.model.graph.SharedGraph;
+import nl.tudelft.context.model.graph.SourceSet;
+import nl.tudelft.context.model.newick.Newick;
+import nl.tudelft.context.model.newick.node.AbstractNode;
+import nl.tudelft.context.model.newick.node.DummyNode;
+import nl.tudelft.context.model.newick.node.StrandNode;
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes the sections of a workspace cache.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class CacheWriter implements Closeable {
+
+    /**
+     * Size of the write buffer.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Channel of the cache file, used for the position and the offset table.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Buffered output to the cache file.
+     */
+    private final DataOutputStream out;
+
+    /**
+     * Nodes written in the graph section, in id order.
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Create a writer on a file.
+     *
+     * @param file File to write to
+     * @throws IOException If the file could not be opened
+     */
+    CacheWriter(final File file) throws IOException {
+
+        FileOutputStream stream = new FileOutputStream(file);
+        channel = stream.getChannel();
+        out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+
+    }
+
+    /**
+     * Get the current position in the file.
+     *
+     * @return The position
+     * @throws IOException If the position could not be read
+     */
+    long position() throws IOException {
+
+        out.flush();
+        return channel.position();
+
+    }
+
+    /**
+     * Write the header with an empty offset table.
+     *
+     * @param sources Source files of the cache
+     * @return Position of the offset table
+     * @throws IOException If the header could not be written
+     */
+    long writeHeader(final File... sources) throws IOException {
+
+        out.writeInt(WorkspaceCache.MAGIC);
+        out.writeInt(WorkspaceCache.VERSION);
+        out.writeInt(sources.length);
+        for (File source : sources) {
+            out.writeLong(source.length());
+            out.writeLong(source.lastModified());
+        }
+
+        long offsetTable = position();
+        for (int i = 0; i <= WorkspaceCache.SECTIONS; i++) {
+            out.writeLong(0);
+        }
+
+        return offsetTable;
+
+    }
+
+    /**
+     * Fill the offset table.
+     *
+     * @param offsetTable Position of the offset table
+     * @param offsets     Offsets of the sections
+     * @throws IOException If the offsets could not be written
+     */
+    void writeOffsets(final long offsetTable, final long[] offsets) throws IOException {
+
+        out.flush();
+        ByteBuffer buffer = ByteBuffer.allocate(offsets.length * Long.BYTES);
+        buffer.asLongBuffer().put(offsets);
+        channel.write(buffer, offsetTable);
+
+    }
+
+    /**
+     * Write the graph section, the nodes with their sources and position of the content, and every edge once with
+     * its sources.
+     *
+     * @param graphMap Graph to write
+     * @throws IOException If the graph could not be written
+     */
+    void writeGraph(final GraphMap graphMap) throws IOException {
+
+        final Map<String, Graph> graphs = graphs(graphMap);
+
+        nodes = graphs.values().stream()
+                .map(Graph::vertexSet)
+                .flatMap(Collection::stream)
+                .distinct()
+                .map(Node.class::cast)
+                .sorted(Comparator.comparingInt(Node::getId))
+                .collect(Collectors.toList());
+
+        Map<String, Integer> sources = writeStrings(sourceNames(graphMap));
+
+        Map<DefaultNode, Integer> index = new HashMap<>();
+        long contentOffset = 0;
+        out.writeInt(nodes.size());
+        for (Node node : nodes) {
+            index.put(node, index.size());
+            out.writeInt(node.getId());
+            out.writeInt(node.getRefStartPosition());
+            out.writeInt(node.getRefEndPosition());
+            out.writeInt(node.getSources().size());
+            for (String source : node.getSources()) {
+                out.writeInt(sources.get(source));
+            }
+            final int length = node.getContentLength();
+            contentOffset = WorkspaceCache.contentOffset(contentOffset, length);
+            out.writeLong(contentOffset);
+            out.writeInt(length);
+            contentOffset += length;
+        }
+
+        final SharedGraph shared = graphMap.getSharedGraph();
+        if (shared != null) {
+            out.writeInt(shared.edgeSet().size());
+            for (DefaultWeightedEdge edge : shared.edgeSet()) {
+                writeEdge(index.get(shared.getEdgeSource(edge)), index.get(shared.getEdgeTarget(edge)),
+                        shared.getEdgeSources(edge), sources);
+            }
+            return;
+        }
+
+        final Map<List<DefaultNode>, SourceSet.Builder> edges = edgesOf(graphMap);
+        out.writeInt(edges.size());
+        for (Map.Entry<List<DefaultNode>, SourceSet.Builder> entry : edges.entrySet()) {
+            writeEdge(index.get(entry.getKey().get(0)), index.get(entry.getKey().get(1)), entry.getValue().build(),
+                    sources);
+        }
+
+    }
+
+    /**
+     * Write an edge once, with all its sources.
+     *
+     * @param from        Index of the source node
+     * @param to          Index of the target node
+     * @param edgeSources Sources of the edge
+     * @param sources     Index of every source name
+     * @throws IOException If the edge could not be written
+     */
+    private void writeEdge(final int from, final int to, final SourceSet edgeSources,
+                           final Map<String, Integer> sources) throws IOException {
+
+        out.writeInt(from);
+        out.writeInt(to);
+        out.writeInt(edgeSources.size());
+        for (String source : edgeSources) {
+            out.writeInt(sources.get(source));
+        }
+
+    }
+
+    /**
+     * Get the graphs containing the nodes, the shared graph or the graph per source.
+     *
+     * @param graphMap Graph map to get the graphs from
+     * @return graphs by source, or the shared graph by an empty name
+     */
+    private static Map<String, Graph> graphs(final GraphMap graphMap) {
+
+        final SharedGraph shared = graphMap.getSharedGraph();
+        if (shared != null) {
+            return Collections.singletonMap("", shared);
+        }
+        return graphMap;
+
+    }
+
+    /**
+     * Get the names of all sources of the nodes and graphs.
+     *
+     * @param graphMap Graph map to get the sources from
+     * @return names of the sources
+     */
+    private Collection<String> sourceNames(final GraphMap graphMap) {
+
+        final Set<String> names = new LinkedHashSet<>();
+        nodes.forEach(node -> names.addAll(node.getSources()));
+        if (graphMap.getSharedGraph() == null) {
+            names.addAll(graphMap.keySet());
+        }
+
+        return names;
+
+    }
+
+    /**
+     * Merge the edges of the graphs per source, so every edge is written once with all its sources.
+     *
+     * @param graphMap Graph map with a graph per source
+     * @return sources by source and target of every edge
+     */
+    private static Map<List<DefaultNode>, SourceSet.Builder> edgesOf(final GraphMap graphMap) {
+
+        final Map<List<DefaultNode>, SourceSet.Builder> edges = new LinkedHashMap<>();
+        graphMap.forEach((source, graph) -> graph.edgeSet().forEach(edge ->
+                edges.computeIfAbsent(Arrays.asList(graph.getEdgeSource(edge), graph.getEdgeTarget(edge)),
+                        endpoints -> new SourceSet.Builder()).add(source)));
+
+        return edges;
+
+    }
+
+    /**
+     * Write the content of the nodes of the graph section.
+     *
+     * @throws IOException If the content could not be written
+     */
+    void writeContent() throws IOException {
+
+        long offset = 0;
+        for (Node node : nodes) {
+            final CharSequence content = node.getContent();
+            final int length = content.length();
+            for (long aligned = WorkspaceCache.contentOffset(offset, length); offset < aligned; offset++) {
+                out.write(0);
+            }
+            for (int i = 0; i < length; i++) {
+                out.write(content.charAt(i));
+            }
+            offset += length;
+        }
+
+    }
+
+    /**
+     * Write the coding sequence section.
+     *
+     * @param codingSequenceMap Coding sequences to write
+     * @throws IOException If the coding sequences could not be written
+     */
+    void writeCodingSequences(final CodingSequenceMap codingSequenceMap) throws IOException {
+
+        List<CodingSequence> codingSequences = codingSequenceMap.getAnnotations();
+        Map<String, Integer> strings = writeStrings(codingSequences.stream()
+                .flatMap(codingSequence -> Stream.of(
+                        codingSequence.getSeqId(),
+                        codingSequence.getSource(),
+                        codingSequence.getType(),
+                        codingSequence.getAttributes()))
+                .collect(Collectors.toList()));
+
+        out.writeInt(codingSequences.size());
+        for (CodingSequence codingSequence : codingSequences) {
+            out.writeInt(strings.get(codingSequence.getSeqId()));
+            out.writeInt(strings.get(codingSequence.getSource()));
+            out.writeInt(strings.get(codingSequence.getType()));
+            out.writeInt(codingSequence.getStart());
+            out.writeInt(codingSequence.getEnd());
+            out.writeFloat(codingSequence.getScore());
+            out.writeChar(codingSequence.getStrand());
+            out.writeChar(codingSequence.getPhase());
+            out.writeInt(strings.get(codingSequence.getAttributes()));
+        }
+
+    }
+
+    /**
+     * Write the resistance section.
+     *
+     * @param resistanceMap Resistances to write
+     * @throws IOException If the resistances could not be written
+     */
+    void writeResistances(final ResistanceMap resistanceMap) throws IOException {
+
+        List<Resistance> resistances = resistanceMap.getAnnotations();
+        Map<String, Integer> strings = writeStrings(resistances.stream()
+                .flatMap(resistance -> Stream.of(
+                        resistance.getGeneName(),
+                        resistance.getTypeOfMutation(),
+                        resistance.getChange(),
+                        resistance.getFilter(),
+                        resistance.getDrugName()))
+                .collect(Collectors.toList()));
+
+        out.writeInt(resistances.size());
+        for (Resistance resistance : resistances) {
+            out.writeInt(strings.get(resistance.getGeneName()));
+            out.writeInt(strings.get(resistance.getTypeOfMutation()));
+            out.writeInt(strings.get(resistance.getChange()));
+            out.writeInt(strings.get(resistance.getFilter()));
+            out.writeInt(resistance.getGenomePosition());
+            out.writeInt(strings.get(resistance.getDrugName()));
+        }
+
+    }
+
+    /**
+     * Write the newick section, the nodes of the tree in pre-order.
+     *
+     * @param newick Tree to write
+     * @throws IOException If the tree could not be written
+     */
+    void writeNewick(final Newick newick) throws IOException {
+
+        writeNewickNode(newick.getRoot());
+
+    }
+
+    /**
+     * Write a node of the tree and its children.
+     *
+     * @param node Node to write
+     * @throws IOException If the node could not be written
+     */
+    private void writeNewickNode(final AbstractNode node) throws IOException {
+
+        if (node instanceof StrandNode) {
+            out.writeByte(NewickCacheLoader.STRAND_NODE);
+            writeString(node.getName());
+        } else if (node instanceof DummyNode) {
+            out.writeByte(NewickCacheLoader.DUMMY_NODE);
+        } else {
+            out.writeByte(NewickCacheLoader.ANCESTOR_NODE);
+        }
+        out.writeDouble(node.getWeight());
+
+        List<AbstractNode> children = node.getChildren();
+        out.writeInt(children.size());
+        for (AbstractNode child : children) {
+            writeNewickNode(child);
+        }
+
+    }
+
+    /**
+     * Write a table of distinct strings.
+     *
+     * @param strings Strings to write, may contain duplicates
+     * @return Index of every string in the table
+     * @throws IOException If the strings could not be written
+     */
+    private Map<String, Integer> writeStrings(final Collection<String> strings) throws IOException {
+
+        Map<String, Integer> table = new LinkedHashMap<>();
+        strings.forEach(string -> table.putIfAbsent(string, table.size()));
+
+        out.writeInt(table.size());
+        for (String string : table.keySet()) {
+            writeString(string);
+        }
+
+        return table;
+
+    }
+
+    /**
+     * Write a string as length and UTF-8 bytes.
+     *
+     * @param string String to write
+     * @throws IOException If the string could not be written
+     */
+    private void writeString(final String string) throws IOException {
+
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+}
@@ -0,0 +1,47 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.model.annotation.CodingSequence;
+import nl.tudelft.context.model.annotation.CodingSequenceMap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the coding sequences from a workspace cache.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class CodingSequenceCacheLoader extends CacheLoader<CodingSequenceMap> {
+
+    @Override
+    protected CodingSequenceMap read(final FileChannel channel, final long[] offsets) throws IOException {
+
+        ByteBuffer buffer = map(channel, offsets, WorkspaceCache.CODING_SEQUENCE);
+        String[] strings = readStrings(buffer);
+
+        final int count = buffer.getInt();
+        List<CodingSequence> codingSequences = new ArrayList<>(count);
+        for (int i = 0; i < count && !isCancelled(); i++) {
+            final String seqId = strings[buffer.getInt()];
+            final String source = strings[buffer.getInt()];
+            final String type = strings[buffer.getInt()];
+            final int start = buffer.getInt();
+            final int end = buffer.getInt();
+            final float score = buffer.getFloat();
+            final char strand = buffer.getChar();
+            final char phase = buffer.getChar();
+            final String attributes = strings[buffer.getInt()];
+
+            codingSequences.add(new CodingSequence(seqId, source, type, start, end, score, strand, phase, attributes));
+        }
+
+        return new CodingSequenceMap(codingSequences);
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.model.graph.GenomeRegistry;
+import nl.tudelft.context.model.graph.GraphMap;
+import nl.tudelft.context.model.graph.MappedSequence;
+import nl.tudelft.context.model.graph.Node;
+import nl.tudelft.context.model.graph.SourceSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the graph from a workspace cache.
+ * <p>
+ * The content of the nodes is a view on the memory mapped cache, it is not copied to the heap.
+ * Every edge is stored once with its sources and loaded into one shared graph.
+ * </p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class GraphCacheLoader extends CacheLoader<GraphMap> {
+
+    @Override
+    protected GraphMap read(final FileChannel channel, final long[] offsets) throws IOException {
+
+        ByteBuffer buffer = map(channel, offsets, WorkspaceCache.GRAPH);
+        ByteBuffer[] windows = mapContent(channel, offsets);
+
+        GraphMap graphMap = GraphMap.shared();
+        String[] names = readStrings(buffer);
+        int[] genomes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            genomes[i] = GenomeRegistry.instance().index(names[i]);
+        }
+        SourceSet.Builder sourceBuilder = new SourceSet.Builder();
+
+        final int nodeCount = buffer.getInt();
+        List<Node> nodes = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount && !isCancelled(); i++) {
+            final int id = buffer.getInt();
+            final int refStartPosition = buffer.getInt();
+            final int refEndPosition = buffer.getInt();
+            for (int s = buffer.getInt(); s > 0; s--) {
+                sourceBuilder.add(genomes[buffer.getInt()]);
+            }
+            final SourceSet sources = sourceBuilder.build();
+            final long contentOffset = buffer.getLong();
+            final int length = buffer.getInt();
+            final MappedSequence content = new MappedSequence(
+                    windows[(int) (contentOffset >>> WorkspaceCache.WINDOW_BITS)],
+                    (int) (contentOffset & (WorkspaceCache.WINDOW_SIZE - 1)),
+                    length);
+
+            Node node = new Node(id, sources, refStartPosition, refEndPosition, content);
+            nodes.add(node);
+            graphMap.addVertex(node);
+        }
+
+        if (isCancelled()) {
+            return graphMap;
+        }
+
+        for (int e = buffer.getInt(); e > 0 && !isCancelled(); e--) {
+            final Node from = nodes.get(buffer.getInt());
+            final Node to = nodes.get(buffer.getInt());
+            for (int s = buffer.getInt(); s > 0; s--) {
+                sourceBuilder.add(genomes[buffer.getInt()]);
+            }
+            graphMap.addEdge(from, to, sourceBuilder.build());
+        }
+
+        return graphMap;
+
+    }
+
+    /**
+     * Map the content section in windows.
+     *
+     * @param channel Channel of the cache file
+     * @param offsets Offsets of the sections
+     * @return The mapped windows
+     * @throws IOException If the content could not be mapped
+     */
+    private static ByteBuffer[] mapContent(final FileChannel channel, final long[] offsets) throws IOException {
+
+        final long start = offsets[WorkspaceCache.CONTENT];
+        final long size = offsets[WorkspaceCache.CONTENT + 1] - start;
+
+        // At least one window, so empty content can be mapped as well.
+        ByteBuffer[] windows = new ByteBuffer[Math.max(1, (int) ((size + WorkspaceCache.WINDOW_SIZE - 1)
+                >>> WorkspaceCache.WINDOW_BITS))];
+        for (int i = 0; i < windows.length; i++) {
+            final long offset = (long) i << WorkspaceCache.WINDOW_BITS;
+            windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, start + offset,
+                    Math.min(WorkspaceCache.WINDOW_SIZE, size - offset));
+        }
+
+        return windows;
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.model.newick.Newick;
+import nl.tudelft.context.model.newick.node.AbstractNode;
+import nl.tudelft.context.model.newick.node.AncestorNode;
+import nl.tudelft.context.model.newick.node.DummyNode;
+import nl.tudelft.context.model.newick.node.StrandNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Loads the tree from a workspace cache.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class NewickCacheLoader extends CacheLoader<Newick> {
+
+    /**
+     * Type of an ancestor node.
+     */
+    static final byte ANCESTOR_NODE = 0;
+
+    /**
+     * Type of a strand node.
+     */
+    static final byte STRAND_NODE = 1;
+
+    /**
+     * Type of a dummy node.
+     */
+    static final byte DUMMY_NODE = 2;
+
+    @Override
+    protected Newick read(final FileChannel channel, final long[] offsets) throws IOException {
+
+        ByteBuffer buffer = map(channel, offsets, WorkspaceCache.NEWICK);
+
+        Newick newick = new Newick();
+        newick.setRoot(readNode(buffer, newick));
+
+        return newick;
+
+    }
+
+    /**
+     * Read a node and its children, the nodes are added to the tree in pre-order like the NewickParser does.
+     *
+     * @param buffer Buffer to read from
+     * @param newick Tree to add the nodes to
+     * @return The read node
+     * @throws IOException If the node type is unknown
+     */
+    private AbstractNode readNode(final ByteBuffer buffer, final Newick newick) throws IOException {
+
+        final byte type = buffer.get();
+        final String name = type == STRAND_NODE ? readString(buffer) : "";
+        final double weight = buffer.getDouble();
+
+        AbstractNode node;
+        switch (type) {
+            case ANCESTOR_NODE:
+                node = new AncestorNode(weight);
+                break;
+            case STRAND_NODE:
+                node = new StrandNode(name, weight);
+                break;
+            case DUMMY_NODE:
+                node = new DummyNode();
+                break;
+            default:
+                throw new IOException("Unknown node type " + type);
+        }
+        newick.addVertex(node);
+
+        for (int i = buffer.getInt(); i > 0 && !isCancelled(); i--) {
+            AbstractNode child = readNode(buffer, newick);
+            node.addChild(child);
+            child.setParent(node);
+        }
+
+        return node;
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.model.annotation.Resistance;
+import nl.tudelft.context.model.annotation.ResistanceMap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the resistances from a workspace cache.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class ResistanceCacheLoader extends CacheLoader<ResistanceMap> {
+
+    @Override
+    protected ResistanceMap read(final FileChannel channel, final long[] offsets) throws IOException {
+
+        ByteBuffer buffer = map(channel, offsets, WorkspaceCache.RESISTANCE);
+        String[] strings = readStrings(buffer);
+
+        final int count = buffer.getInt();
+        List<Resistance> resistances = new ArrayList<>(count);
+        for (int i = 0; i < count && !isCancelled(); i++) {
+            final String geneName = strings[buffer.getInt()];
+            final String typeOfMutation = strings[buffer.getInt()];
+            final String change = strings[buffer.getInt()];
+            final String filter = strings[buffer.getInt()];
+            final int genomePosition = buffer.getInt();
+            final String drugName = strings[buffer.getInt()];
+
+            resistances.add(new Resistance(geneName, typeOfMutation, change, filter, genomePosition, drugName));
+        }
+
+        return new ResistanceMap(resistances);
+
+    }
+
+}
@@ -0,0 +1,219 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.model.annotation.CodingSequenceMap;
+import nl.tudelft.context.model.annotation.ResistanceMap;
+import nl.tudelft.context.model.graph.GraphMap;
+import nl.tudelft.context.model.newick.Newick;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Binary cache of a workspace.
+ * <p>
+ * The cache is keyed by the size and modification time of the source files,
+ * when one of the source files changes the cache is not valid anymore.
+ * </p>
+ * <p>
+ * Layout of the file:
+ * </p>
+ * <pre>
+ * int     magic
+ * int     version
+ * int     number of source files
+ * long[2] size and modification time, per source file
+ * long[6] offset of the graph, coding sequence, resistance, newick and content section, and the end of the file
+ * ...     sections
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class WorkspaceCache {
+
+    /**
+     * Extension of the cache file.
+     */
+    public static final String EXTENSION = ".geexbin";
+
+    /**
+     * Magic number at the start of a cache file, "GEEX".
+     */
+    static final int MAGIC = 0x47454558;
+
+    /**
+     * Version of the format, a cache with another version is not valid.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Index of the graph section.
+     */
+    static final int GRAPH = 0;
+
+    /**
+     * Index of the coding sequence section.
+     */
+    static final int CODING_SEQUENCE = 1;
+
+    /**
+     * Index of the resistance section.
+     */
+    static final int RESISTANCE = 2;
+
+    /**
+     * Index of the newick section.
+     */
+    static final int NEWICK = 3;
+
+    /**
+     * Index of the section containing the content of the nodes.
+     */
+    static final int CONTENT = 4;
+
+    /**
+     * Amount of sections, the offset table contains one more offset for the end of the file.
+     */
+    static final int SECTIONS = 5;
+
+    /**
+     * The content is mapped in windows of this size, content never crosses a window.
+     */
+    static final int WINDOW_BITS = 30;
+
+    /**
+     * Size of a content window.
+     */
+    static final long WINDOW_SIZE = 1L << WINDOW_BITS;
+
+    /**
+     * The cache file.
+     */
+    private final File file;
+
+    /**
+     * The source files which are cached.
+     */
+    private final File[] sources;
+
+    /**
+     * Create a cache.
+     *
+     * @param file    The cache file
+     * @param sources The source files which are cached, in a fixed order
+     */
+    public WorkspaceCache(final File file, final File... sources) {
+        this.file = file;
+        this.sources = sources;
+    }
+
+    /**
+     * Get the cache file.
+     *
+     * @return The cache file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Check if the cache exists and is created from the current source files.
+     *
+     * @return If the cache can be used
+     */
+    public boolean isValid() {
+
+        if (!file.isFile()) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != sources.length) {
+                return false;
+            }
+            for (File source : sources) {
+                if (in.readLong() != source.length() || in.readLong() != source.lastModified()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+
+    }
+
+    /**
+     * Write the cache.
+     * <p>
+     * The cache is written to a temporary file first, so a cache is never left half written.
+     * </p>
+     *
+     * @param graphMap          The parsed graph
+     * @param codingSequenceMap The parsed coding sequences
+     * @param resistanceMap     The parsed resistances
+     * @param newick            The parsed tree
+     * @throws IOException If the cache could not be written
+     */
+    public void write(final GraphMap graphMap,
+                      final CodingSequenceMap codingSequenceMap,
+                      final ResistanceMap resistanceMap,
+                      final Newick newick) throws IOException {
+
+        File temp = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+
+        try {
+            try (CacheWriter writer = new CacheWriter(temp)) {
+                long[] offsets = new long[SECTIONS + 1];
+                long offsetTable = writer.writeHeader(sources);
+
+                offsets[GRAPH] = writer.position();
+                writer.writeGraph(graphMap);
+                offsets[CODING_SEQUENCE] = writer.position();
+                writer.writeCodingSequences(codingSequenceMap);
+                offsets[RESISTANCE] = writer.position();
+                writer.writeResistances(resistanceMap);
+                offsets[NEWICK] = writer.position();
+                writer.writeNewick(newick);
+                offsets[CONTENT] = writer.position();
+                writer.writeContent();
+                offsets[SECTIONS] = writer.position();
+
+                writer.writeOffsets(offsetTable, offsets);
+            }
+
+            Files.move(temp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+
+    }
+
+    /**
+     * Get the offset of content in the content section, content is moved to the next window if it does not fit.
+     *
+     * @param offset Offset after the previous content
+     * @param length Length of the content
+     * @return Offset of the content
+     * @throws IOException If the content is larger than a window
+     */
+    static long contentOffset(final long offset, final int length) throws IOException {
+
+        if (length > WINDOW_SIZE) {
+            throw new IOException("Content of " + length + " bytes does not fit in the cache");
+        }
+
+        if ((offset & (WINDOW_SIZE - 1)) + length > WINDOW_SIZE) {
+            return (offset + WINDOW_SIZE - 1) & -WINDOW_SIZE;
+        }
+        return offset;
+
+    }
+
+}
@@ -0,0 +1,11 @@
+/**
+ * Package for the binary cache of a workspace.
+ *
+ * The cache contains the parsed graph, annotations and tree,
+ * so a workspace which is opened again does not have to be parsed.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+package nl.tudelft.context.workspace.cache;
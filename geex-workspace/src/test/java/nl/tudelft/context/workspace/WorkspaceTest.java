@@ -1,21 +1,30 @@
 package nl.tudelft.context.workspace;
 
 import de.saxsys.javafx.test.JfxRunner;
+import javafx.beans.property.SimpleObjectProperty;
 import nl.tudelft.context.model.annotation.CodingSequenceParser;
 import nl.tudelft.context.model.annotation.ResistanceParser;
 import nl.tudelft.context.model.graph.GraphParser;
 import nl.tudelft.context.model.newick.NewickParser;
 import nl.tudelft.context.service.LoadService;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Gerben Oolbekkink
@@ -25,6 +34,9 @@ import static org.mockito.Mockito.verify;
 @RunWith(value = JfxRunner.class)
 public class WorkspaceTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test(expected = FileNotFoundException.class)
     public void testNullDirectory() throws Exception {
         new Workspace(null);
@@ -69,7 +81,43 @@ public class WorkspaceTest {
         assertEquals(edgePath, workspace.edgeFile);
         assertEquals(nwkPath, workspace.nwkFile);
         assertEquals(annPath, workspace.codingSequenceFile);
-        assertEquals(immPath, workspace.resistanceFile);
+        assertArrayEquals(new File[]{immPath}, workspace.resistanceFiles);
+    }
+
+    /**
+     * All resistance catalogues must be found, ordered by name.
+     */
+    @Test
+    public void testResistanceFiles() throws Exception {
+        Workspace workspace = new Workspace(File.createTempFile("mydir", "workspace"));
+
+        File immPath = folder.newFile("mygraph.txt");
+        File immPath2 = folder.newFile("extra.txt");
+        File notes = folder.newFile("notes.txt");
+        Files.write(immPath.toPath(), "## Catalogue\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(immPath2.toPath(), "## Extra catalogue\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(notes.toPath(), "Notes\n".getBytes(StandardCharsets.UTF_8));
+
+        workspace.files = new File[]{new File("mygraph.edge.graph"), new File("mygraph.node.graph"),
+                new File("mygraph.nwk"), new File("mygraph.gff"), immPath, notes, immPath2};
+
+        workspace.load();
+
+        assertArrayEquals(new File[]{immPath2, immPath}, workspace.resistanceFiles);
+    }
+
+    /**
+     * Text files without a catalogue header are not resistance catalogues.
+     */
+    @Test(expected = FileNotFoundException.class)
+    public void testNoResistanceCatalogue() throws Exception {
+        Workspace workspace = new Workspace(File.createTempFile("mydir", "workspace"));
+
+        workspace.files = new File[]{new File("mygraph.edge.graph"), new File("mygraph.node.graph"),
+                new File("mygraph.nwk"), new File("mygraph.gff"), folder.newFile("notes.txt"),
+                folder.newFile("readme.txt")};
+
+        workspace.load();
     }
 
     @Test(expected = FileNotFoundException.class)
@@ -175,6 +223,10 @@ public class WorkspaceTest {
         workspace.loadCodingSequenceService = mock(LoadService.class);
         workspace.loadGraphService = mock(LoadService.class);
         workspace.loadResistanceService = mock(LoadService.class);
+        when(workspace.loadNewickService.loadProgressProperty()).thenReturn(new SimpleObjectProperty<>());
+        when(workspace.loadCodingSequenceService.loadProgressProperty()).thenReturn(new SimpleObjectProperty<>());
+        when(workspace.loadGraphService.loadProgressProperty()).thenReturn(new SimpleObjectProperty<>());
+        when(workspace.loadResistanceService.loadProgressProperty()).thenReturn(new SimpleObjectProperty<>());
 
         workspace.preload();
 
@@ -216,4 +268,28 @@ public class WorkspaceTest {
         assertNull(workspace.getResistance().get());
     }
 
+    @Test
+    public void testLoadFromCache() throws Exception {
+        for (String name : new String[]{"test.node.graph", "test.edge.graph", "test.gff", "test.txt", "test.nwk"}) {
+            Files.copy(new File(WorkspaceTest.class.getResource("/workspace/" + name).getPath()).toPath(),
+                    new File(folder.getRoot(), name).toPath());
+        }
+
+        Workspace workspace = new Workspace(folder.getRoot());
+        workspace.load();
+        assertFalse(workspace.cached);
+
+        workspace.cache.write(
+                new GraphParser().setFiles(workspace.nodeFile, workspace.edgeFile).load(),
+                new CodingSequenceParser().setFiles(workspace.codingSequenceFile).load(),
+                new ResistanceParser().setFiles(workspace.resistanceFiles).load(),
+                new NewickParser().setFiles(workspace.nwkFile).load()
+        );
+
+        Workspace reopened = new Workspace(folder.getRoot());
+        reopened.load();
+        assertTrue(reopened.cached);
+        assertEquals(workspace.nodeFile, reopened.nodeFile);
+    }
+
 }
@@ -0,0 +1,318 @@
+package nl.tudelft.context.workspace.cache;
+
+import nl.tudelft.context.model.annotation.CodingSequenceMap;
+import nl.tudelft.context.model.annotation.CodingSequenceParser;
+import nl.tudelft.context.model.annotation.ResistanceMap;
+import nl.tudelft.context.model.annotation.ResistanceParser;
+import nl.tudelft.context.model.graph.DefaultNode;
+import nl.tudelft.context.model.graph.Graph;
+import nl.tudelft.context.model.graph.GraphMap;
+import nl.tudelft.context.model.graph.GraphParser;
+import nl.tudelft.context.model.graph.Node;
+import nl.tudelft.context.model.graph.SharedGraph;
+import nl.tudelft.context.model.graph.SharedGraphParser;
+import nl.tudelft.context.model.newick.Newick;
+import nl.tudelft.context.model.newick.NewickParser;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class WorkspaceCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    File nodeFile, edgeFile, codingSequenceFile, resistanceFile, nwkFile;
+
+    WorkspaceCache cache;
+
+    /**
+     * Copy the workspace to a temporary folder.
+     *
+     * @throws IOException Test files not found
+     */
+    @Before
+    public void setUp() throws IOException {
+
+        nodeFile = copy("test.node.graph");
+        edgeFile = copy("test.edge.graph");
+        codingSequenceFile = copy("test.gff");
+        resistanceFile = copy("test.txt");
+        nwkFile = copy("test.nwk");
+
+        cache = new WorkspaceCache(new File(folder.getRoot(), "test" + WorkspaceCache.EXTENSION),
+                nodeFile, edgeFile, codingSequenceFile, resistanceFile, nwkFile);
+
+    }
+
+    /**
+     * Copy a test file to the temporary folder.
+     *
+     * @param name Name of the test file
+     * @return The copied file
+     * @throws IOException Test file not found
+     */
+    private File copy(final String name) throws IOException {
+
+        File file = new File(folder.getRoot(), name);
+        Files.copy(new File(WorkspaceCacheTest.class.getResource("/workspace/" + name).getPath()).toPath(),
+                file.toPath());
+
+        return file;
+
+    }
+
+    /**
+     * Write the cache from the parsed source files.
+     *
+     * @throws IOException Test files not found
+     */
+    private void write() throws IOException {
+
+        write(new GraphParser().setFiles(nodeFile, edgeFile).load());
+
+    }
+
+    /**
+     * Write a graph map and the other test files to the cache.
+     *
+     * @param graphMap Graph map to write
+     * @throws IOException Test files not found
+     */
+    private void write(final GraphMap graphMap) throws IOException {
+
+        cache.write(
+                graphMap,
+                new CodingSequenceParser().setFiles(codingSequenceFile).load(),
+                new ResistanceParser().setFiles(resistanceFile).load(),
+                new NewickParser().setFiles(nwkFile).load()
+        );
+
+    }
+
+    /**
+     * A cache which is not written is not valid.
+     */
+    @Test
+    public void testNotWritten() {
+
+        assertFalse(cache.isValid());
+
+    }
+
+    /**
+     * A written cache is valid.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testValid() throws IOException {
+
+        write();
+
+        assertTrue(cache.isValid());
+
+    }
+
+    /**
+     * A cache is not valid when a source file is changed.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testSourceChanged() throws IOException {
+
+        write();
+        assertTrue(nodeFile.setLastModified(nodeFile.lastModified() - 1000));
+
+        assertFalse(cache.isValid());
+
+    }
+
+    /**
+     * Test that the cached graph is equal to the parsed graph.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testGraph() throws IOException {
+
+        write();
+
+        GraphMap expected = new GraphParser().setFiles(nodeFile, edgeFile).load();
+        GraphMap actual = new GraphCacheLoader().setFiles(cache.getFile()).load();
+
+        assertNotNull(actual.getSharedGraph());
+        expected.forEach((source, graph) -> {
+            Graph other = actual.flat(Collections.singleton(source));
+            assertEquals(nodes(graph), nodes(other));
+            assertEquals(edges(graph), edges(other));
+        });
+
+    }
+
+    /**
+     * Test that a shared graph is cached with the same edges per source.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testSharedGraph() throws IOException {
+
+        write(new SharedGraphParser().setFiles(nodeFile, edgeFile).load());
+
+        GraphMap expected = new GraphParser().setFiles(nodeFile, edgeFile).load();
+        GraphMap actual = new GraphCacheLoader().setFiles(cache.getFile()).load();
+
+        expected.forEach((source, graph) -> {
+            Graph other = actual.flat(Collections.singleton(source));
+            assertEquals(nodes(graph), nodes(other));
+            assertEquals(edges(graph), edges(other));
+        });
+
+    }
+
+    /**
+     * Test that every edge of a shared graph is loaded once, with the same sources.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testSharedEdgeSources() throws IOException {
+
+        SharedGraph expected = new SharedGraphParser().setFiles(nodeFile, edgeFile).load().getSharedGraph();
+        write(new SharedGraphParser().setFiles(nodeFile, edgeFile).load());
+
+        SharedGraph actual = new GraphCacheLoader().setFiles(cache.getFile()).load().getSharedGraph();
+
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        assertEquals(edgeSources(expected), edgeSources(actual));
+
+    }
+
+    /**
+     * Get the sources of every edge of a shared graph, by the ids of its source and target.
+     *
+     * @param graph Graph to get the edges from
+     * @return Sources by source and target id
+     */
+    private static Map<List<Integer>, Set<String>> edgeSources(final SharedGraph graph) {
+        return graph.edgeSet().stream()
+                .collect(Collectors.toMap(edge -> Arrays.asList(((Node) graph.getEdgeSource(edge)).getId(),
+                        ((Node) graph.getEdgeTarget(edge)).getId()), graph::getEdgeSources));
+    }
+
+    /**
+     * Get the nodes of a graph with all their properties.
+     *
+     * @param graph Graph to get the nodes from
+     * @return Properties of the nodes
+     */
+    private static List<List<Object>> nodes(final Graph graph) {
+        return graph.vertexSet().stream()
+                .map(Node.class::cast)
+                .map(node -> Arrays.<Object>asList(node.getId(), node.getSources(), node.getContent(),
+                        node.getRefStartPosition(), node.getRefEndPosition()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the edges of a graph as a set of source and target, the shared graph does not keep the order per source.
+     *
+     * @param graph Graph to get the edges from
+     * @return Source and target of all edges
+     */
+    private static Set<List<DefaultNode>> edges(final Graph graph) {
+        return graph.edgeSet().stream()
+                .map(edge -> Arrays.asList(graph.getEdgeSource(edge), graph.getEdgeTarget(edge)))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Test that the cached coding sequences are equal to the parsed coding sequences.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testCodingSequences() throws IOException {
+
+        write();
+
+        CodingSequenceMap expected = new CodingSequenceParser().setFiles(codingSequenceFile).load();
+        CodingSequenceMap actual = new CodingSequenceCacheLoader().setFiles(cache.getFile()).load();
+
+        assertEquals(expected.getAnnotations(), actual.getAnnotations());
+
+    }
+
+    /**
+     * Test that the cached resistances are equal to the parsed resistances.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testResistances() throws IOException {
+
+        write();
+
+        ResistanceMap expected = new ResistanceParser().setFiles(resistanceFile).load();
+        ResistanceMap actual = new ResistanceCacheLoader().setFiles(cache.getFile()).load();
+
+        assertEquals(expected.getAnnotations(), actual.getAnnotations());
+
+    }
+
+    /**
+     * Test that the cached tree is equal to the parsed tree.
+     *
+     * @throws IOException Test files not found
+     */
+    @Test
+    public void testNewick() throws IOException {
+
+        write();
+
+        Newick expected = new NewickParser().setFiles(nwkFile).load();
+        Newick actual = new NewickCacheLoader().setFiles(cache.getFile()).load();
+
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.vertexSet().size(), actual.vertexSet().size());
+
+    }
+
+    /**
+     * Content which does not fit in the current window is moved to the next window.
+     *
+     * @throws IOException Content too large
+     */
+    @Test
+    public void testContentOffset() throws IOException {
+
+        assertEquals(10, WorkspaceCache.contentOffset(10, 5));
+        assertEquals(WorkspaceCache.WINDOW_SIZE, WorkspaceCache.contentOffset(WorkspaceCache.WINDOW_SIZE - 2, 5));
+        assertEquals(WorkspaceCache.WINDOW_SIZE - 5, WorkspaceCache.contentOffset(WorkspaceCache.WINDOW_SIZE - 5, 5));
+
+    }
+
+}